@@ -309,6 +309,7 @@ public final class SerializationConstants {
     public static final String TEXT = "text";
     public static final String TEXTURES = "textures";
     public static final String TIME = "time";
+    public static final String TO_MINE = "to_mine";
     public static final String TRUSTED = "trusted";
     public static final String TYPES = "types";
     public static final String UPDATE_DELAY = "update_delay";
@@ -10,6 +10,7 @@ import mekanism.api.SerializationConstants;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.chemical.attribute.ChemicalAttributeValidator;
 import mekanism.api.functions.ConstantPredicates;
+import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import org.jetbrains.annotations.NotNull;
@@ -408,6 +409,58 @@ public class BasicChemicalTank implements IChemicalTank, IChemicalHandler {
         return ret;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Overwritten so that when we already contain the chemical we can validate and grow our own stack instead of creating a new one.
+     * @since 10.7.8
+     */
+    @Override
+    public long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (amount <= 0 || isEmpty()) {
+            //If we are empty we have to create a stack to set anyway, so just let the stack based insert handle it
+            return IChemicalTank.super.insert(chemical, amount, action, automationType);
+        } else if (!stored.is(chemical)) {
+            return amount;
+        }
+        long needed = Math.min(getInsertRate(automationType), getNeeded());
+        if (needed <= 0) {
+            //Fail if we are a full tank or our rate is zero
+            return amount;
+        }
+        //Note: As we contain the same chemical as is being inserted, we can validate against our stored stack
+        if (!isValid(stored) || !canInsert.test(stored.getChemical(), automationType)) {
+            //we can never insert the chemical or currently are unable to insert it
+            return amount;
+        }
+        long toAdd = Math.min(amount, needed);
+        if (action.execute()) {
+            stored.grow(toAdd);
+            onContentsChanged();
+        }
+        return amount - toAdd;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Overwritten so that we can directly shrink our stack instead of having to make a copy.
+     * @since 10.7.8
+     */
+    @Override
+    public long extract(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (isEmpty() || amount < 1 || !stored.is(chemical) || !canExtract.test(stored.getChemical(), automationType)) {
+            return 0;
+        }
+        long size = Math.min(Math.min(getExtractRate(automationType), getStored()), amount);
+        if (size > 0 && action.execute()) {
+            //If shrink gets the size to zero it will update the empty state so that isEmpty() returns true.
+            stored.shrink(size);
+            onContentsChanged();
+        }
+        return size;
+    }
+
     @Override
     public boolean isValid(ChemicalStack stack) {
         return getAttributeValidator().process(stack) && validator.test(stack.getChemical());
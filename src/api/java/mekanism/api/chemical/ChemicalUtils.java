@@ -13,6 +13,7 @@ import mekanism.api.container.ContainerInteraction;
 import mekanism.api.container.InContainerGetter;
 import mekanism.api.container.LongContainerInteraction;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -125,6 +126,47 @@ public class ChemicalUtils {
         return toInsert;
     }
 
+    /**
+     * Util method for a generic amount based insert implementation for various handlers. Mainly for internal use only
+     *
+     * @return The amount that was not inserted.
+     *
+     * @since 10.7.8
+     */
+    public static long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType, int size, List<IChemicalTank> chemicalTanks) {
+        if (amount <= 0 || size == 0) {
+            return amount;
+        } else if (size == 1) {
+            //noinspection SequencedCollectionMethodCanBeUsed: we know size
+            return chemicalTanks.get(0).insert(chemical, amount, action, automationType);
+        }
+        long toInsert = amount;
+        //Start by trying to insert into the tanks that have the same type
+        // Note: Inserting into tanks of the same type can't cause any tanks to become empty, so we can check for empty tanks in a second pass
+        // instead of having to collect them
+        for (int i = 0; i < size; i++) {
+            IChemicalTank tank = chemicalTanks.get(i);
+            if (!tank.isEmpty() && tank.isTypeEqual(chemical.value())) {
+                toInsert = tank.insert(chemical, toInsert, action, automationType);
+                if (toInsert == 0) {
+                    //If we have no remaining chemical, return that we fit it all
+                    return 0;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            IChemicalTank tank = chemicalTanks.get(i);
+            if (tank.isEmpty()) {
+                toInsert = tank.insert(chemical, toInsert, action, automationType);
+                if (toInsert == 0) {
+                    //If we have no remaining chemical, return that we fit it all
+                    return 0;
+                }
+            }
+        }
+        return toInsert;
+    }
+
     /**
      * Util method for a generic extraction implementation for various handlers. Mainly for internal use only
      *
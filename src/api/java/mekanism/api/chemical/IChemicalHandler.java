@@ -2,6 +2,7 @@ package mekanism.api.chemical;
 
 import mekanism.api.Action;
 import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.Holder;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 
@@ -123,6 +124,48 @@ public interface IChemicalHandler {
               (tank, chemical, s, act) -> insertChemical(tank, chemical, act));
     }
 
+    /**
+     * Inserts the given amount of a chemical into a given tank and returns the amount that was not inserted. Behaves the same as
+     * {@link #insertChemical(int, ChemicalStack, Action)}, but without requiring the caller to create a {@link ChemicalStack}.
+     *
+     * @param tank     Tank to insert to.
+     * @param chemical Chemical to insert.
+     * @param amount   Amount of the chemical to insert.
+     * @param action   The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return The amount that was not inserted.
+     *
+     * @implNote The default implementation creates a {@link ChemicalStack} and calls {@link #insertChemical(int, ChemicalStack, Action)}.
+     * @since 10.7.8
+     */
+    default long insertChemical(int tank, Holder<Chemical> chemical, long amount, Action action) {
+        if (amount <= 0) {
+            return amount;
+        }
+        return insertChemical(tank, new ChemicalStack(chemical, amount), action).getAmount();
+    }
+
+    /**
+     * Inserts the given amount of a chemical into this handler and returns the amount that was not inserted, distribution is left <strong>entirely</strong> to this
+     * {@link IChemicalHandler}. Behaves the same as {@link #insertChemical(ChemicalStack, Action)}, but without requiring the caller to create a
+     * {@link ChemicalStack}.
+     *
+     * @param chemical Chemical to insert.
+     * @param amount   Amount of the chemical to insert.
+     * @param action   The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return The amount that was not inserted.
+     *
+     * @implNote The default implementation creates a {@link ChemicalStack} and calls {@link #insertChemical(ChemicalStack, Action)}.
+     * @since 10.7.8
+     */
+    default long insertChemical(Holder<Chemical> chemical, long amount, Action action) {
+        if (amount <= 0) {
+            return amount;
+        }
+        return insertChemical(new ChemicalStack(chemical, amount), action).getAmount();
+    }
+
     /**
      * Extracts a {@link ChemicalStack} from this handler, distribution is left <strong>entirely</strong> to this {@link IChemicalHandler}.
      * <p>
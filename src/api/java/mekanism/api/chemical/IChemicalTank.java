@@ -6,6 +6,7 @@ import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.chemical.attribute.ChemicalAttributeValidator;
+import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
@@ -132,6 +133,52 @@ public interface IChemicalTank extends INBTSerializable<CompoundTag>, IContentsL
         return ret;
     }
 
+    /**
+     * Inserts the given amount of a chemical into this {@link IChemicalTank} and returns the amount that was not inserted. Behaves the same as
+     * {@link #insert(ChemicalStack, Action, AutomationType)}, but without requiring the caller to create a {@link ChemicalStack}.
+     *
+     * @param chemical       Chemical to insert.
+     * @param amount         Amount of the chemical to insert.
+     * @param action         The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     * @param automationType The method that this tank is being interacted from.
+     *
+     * @return The amount that was not inserted.
+     *
+     * @implNote The default implementation creates a {@link ChemicalStack} and calls {@link #insert(ChemicalStack, Action, AutomationType)}. It is recommended to
+     * override this if your internal {@link ChemicalStack} is mutable so that stacks do not have to be created every run. If the internal stack does get updated make
+     * sure to call {@link #onContentsChanged()}.
+     * @since 10.7.8
+     */
+    default long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (amount <= 0) {
+            return amount;
+        }
+        return insert(new ChemicalStack(chemical, amount), action, automationType).getAmount();
+    }
+
+    /**
+     * Extracts up to the given amount of a chemical from this {@link IChemicalTank}, if this tank contains that chemical. Behaves the same as
+     * {@link #extract(long, Action, AutomationType)}, but without requiring the tank to create a {@link ChemicalStack}.
+     *
+     * @param chemical       Chemical to extract.
+     * @param amount         Amount to extract.
+     * @param action         The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     * @param automationType The method that this tank is being interacted from.
+     *
+     * @return The amount that was extracted, zero if this tank does not contain the given chemical.
+     *
+     * @implNote The default implementation calls {@link #extract(long, Action, AutomationType)}. It is recommended to override this if your internal
+     * {@link ChemicalStack} is mutable so that stacks do not have to be created every run. If the internal stack does get updated make sure to call
+     * {@link #onContentsChanged()}.
+     * @since 10.7.8
+     */
+    default long extract(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (amount <= 0 || !isTypeEqual(chemical.value())) {
+            return 0;
+        }
+        return extract(amount, action, automationType).getAmount();
+    }
+
     /**
      * Retrieves the maximum stack size allowed to exist in this {@link IChemicalTank}.
      *
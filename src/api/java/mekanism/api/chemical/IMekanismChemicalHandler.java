@@ -6,6 +6,7 @@ import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
 import mekanism.api.annotations.NothingNullByDefault;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -112,6 +113,24 @@ public interface IMekanismChemicalHandler extends ISidedChemicalHandler, IConten
         return ChemicalUtils.insert(stack, side, this::getChemicalTanks, action, AutomationType.handler(side));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Any overrides to this should also override {@link #insertChemical(Holder, long, Direction, Action)} as it bypasses calling this method in order to skip
+     * looking up the containers for every sub operation.
+     */
+    @Override
+    default long insertChemical(int tank, Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        IChemicalTank chemicalTank = getChemicalTank(tank, side);
+        return chemicalTank == null ? amount : chemicalTank.insert(chemical, amount, action, AutomationType.handler(side));
+    }
+
+    @Override
+    default long insertChemical(Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        List<IChemicalTank> chemicalTanks = getChemicalTanks(side);
+        return ChemicalUtils.insert(chemical, amount, action, AutomationType.handler(side), chemicalTanks.size(), chemicalTanks);
+    }
+
     @Override
     default ChemicalStack extractChemical(long amount, @Nullable Direction side, Action action) {
         return ChemicalUtils.extract(amount, side, this::getChemicalTanks, action, AutomationType.handler(side));
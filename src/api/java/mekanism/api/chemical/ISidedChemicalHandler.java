@@ -3,6 +3,7 @@ package mekanism.api.chemical;
 import mekanism.api.Action;
 import mekanism.api.annotations.NothingNullByDefault;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import org.jetbrains.annotations.Nullable;
@@ -196,6 +197,62 @@ public interface ISidedChemicalHandler extends IChemicalHandler {
         return ChemicalUtils.insert(stack, side, action, this::getCountChemicalTanks, this::getChemicalInTank, this::insertChemical);
     }
 
+    /**
+     * A sided variant of {@link IChemicalHandler#insertChemical(int, Holder, long, Action)}, docs copied for convenience.
+     * <p>
+     * Inserts the given amount of a chemical into a given tank and returns the amount that was not inserted.
+     *
+     * @param tank     Tank to insert to.
+     * @param chemical Chemical to insert.
+     * @param amount   Amount of the chemical to insert.
+     * @param side     The side we are interacting with the handler from (null for internal).
+     * @param action   The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return The amount that was not inserted.
+     *
+     * @implNote The default implementation creates a {@link ChemicalStack} and calls {@link #insertChemical(int, ChemicalStack, Direction, Action)}.
+     * @since 10.7.8
+     */
+    default long insertChemical(int tank, Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        if (amount <= 0) {
+            return amount;
+        }
+        return insertChemical(tank, new ChemicalStack(chemical, amount), side, action).getAmount();
+    }
+
+    @Override
+    default long insertChemical(int tank, Holder<Chemical> chemical, long amount, Action action) {
+        return insertChemical(tank, chemical, amount, getSideFor(), action);
+    }
+
+    /**
+     * A sided variant of {@link IChemicalHandler#insertChemical(Holder, long, Action)}, docs copied for convenience.
+     * <p>
+     * Inserts the given amount of a chemical into this handler and returns the amount that was not inserted, distribution is left <strong>entirely</strong> to this
+     * {@link IChemicalHandler}.
+     *
+     * @param chemical Chemical to insert.
+     * @param amount   Amount of the chemical to insert.
+     * @param side     The side we are interacting with the handler from (null for internal).
+     * @param action   The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return The amount that was not inserted.
+     *
+     * @implNote The default implementation creates a {@link ChemicalStack} and calls {@link #insertChemical(ChemicalStack, Direction, Action)}.
+     * @since 10.7.8
+     */
+    default long insertChemical(Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        if (amount <= 0) {
+            return amount;
+        }
+        return insertChemical(new ChemicalStack(chemical, amount), side, action).getAmount();
+    }
+
+    @Override
+    default long insertChemical(Holder<Chemical> chemical, long amount, Action action) {
+        return insertChemical(chemical, amount, getSideFor(), action);
+    }
+
     /**
      * A sided variant of {@link IChemicalHandler#extractChemical(long, Action)}, docs copied for convenience.
      * <p>
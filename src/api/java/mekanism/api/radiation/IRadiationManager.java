@@ -97,7 +97,8 @@ public interface IRadiationManager {
     /**
      * Gets an unmodifiable table of the radiation sources tracked by this manager. This table keeps track of radiation sources on both a chunk and position based level.
      *
-     * @return Unmodifiable table of radiation sources.
+     * @return Unmodifiable point-in-time copy of the radiation sources. The copy is built on every call and does not reflect later changes, so callers should avoid polling
+     * this every tick.
      */
     Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources();
 
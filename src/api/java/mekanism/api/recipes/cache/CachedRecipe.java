@@ -289,6 +289,17 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         pausedForErrors = false;
     }
 
+    /**
+     * Checks if this recipe is paused due to errors that cause processing to stop, meaning it will not do anything until {@link #unpauseErrors()} is called.
+     *
+     * @return {@code true} if this recipe is paused.
+     *
+     * @since 10.7.8
+     */
+    public boolean isPausedForErrors() {
+        return pausedForErrors;
+    }
+
     /**
      * Sets the number of operating ticks that have passed so far. This is used to allow {@link CachedRecipe} holders to persist and load recipe progress.
      *
@@ -1080,6 +1080,13 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_RESERVATIONS, "%1$s stacks are in flight to %2$s destinations in this dimension.");
+        add(MekanismLang.COMMAND_RESERVATIONS_NONE, "No stacks are in flight to (%1$s).");
+        add(MekanismLang.COMMAND_RESERVATIONS_DESTINATION, "(%1$s): %2$s stacks in flight, reservations rebuilt %3$s times.");
+        add(MekanismLang.COMMAND_RESERVATIONS_SIDE, "Side %1$s: %2$s slots, %3$s stacks pending, blocked: %4$s.");
+        add(MekanismLang.COMMAND_RESERVATIONS_SLOT, "Slot %1$s: %2$s reserved for %3$s.");
+        add(MekanismLang.COMMAND_SLEEP, "%1$s: %2$s machines sleeping, %3$s active.");
+        add(MekanismLang.COMMAND_SLEEP_NONE, "No machines are loaded.");
         //Tooltip stuff
         add(MekanismLang.UNKNOWN, "Unknown");
         add(MekanismLang.MODE, "Mode: %1$s");
@@ -1536,6 +1543,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.NETWORK_READER_THROUGHPUT, " *Throughput: %1$s");
         add(MekanismLang.NETWORK_READER_CAPACITY, " *Capacity: %1$s");
         add(MekanismLang.NETWORK_READER_CONNECTED_SIDES, " *Connected sides: %1$s");
+        add(MekanismLang.NETWORK_READER_ROUTES, " *Cached routes: %1$s (hits: %2$s, misses: %3$s)");
         //Sorter
         add(MekanismLang.SORTER_DEFAULT, "Default color:");
         add(MekanismLang.SORTER_SINGLE_ITEM, "Force single item:");
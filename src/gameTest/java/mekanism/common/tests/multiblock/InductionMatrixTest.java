@@ -0,0 +1,123 @@
+package mekanism.common.tests.multiblock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.common.content.matrix.MatrixEnergyContainer;
+import mekanism.common.content.matrix.MatrixMultiblockData;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.MekanismTests;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.multiblock.TileEntityInductionCasing;
+import mekanism.common.tile.multiblock.TileEntityInductionCell;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.RegisterStructureTemplate;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "multiblock.matrix")
+public class InductionMatrixTest {
+
+    private static final String MATRIX = MekanismTests.MODID + ":induction_matrix";
+    //Note: Our template is lazy so that we ensure the induction blocks are registered
+    @RegisterStructureTemplate(MATRIX)
+    public static final Supplier<StructureTemplate> MATRIX_TEMPLATE = StructureTemplateBuilder.lazy(3, 5, 3, builder -> builder
+          .fill(0, 0, 0, 2, 4, 2, MekanismBlocks.INDUCTION_CASING.getBlock())
+          .fill(1, 1, 1, 1, 2, 1, MekanismBlocks.BASIC_INDUCTION_CELL.getBlock())
+          .fill(1, 3, 1, 1, 3, 1, MekanismBlocks.BASIC_INDUCTION_PROVIDER.getBlock())
+    );
+
+    //Note: Positions are relative to the test, which places the template one block above its origin
+    private static final BlockPos CORNER = new BlockPos(0, 1, 0);
+    private static final BlockPos CASING = new BlockPos(0, 3, 1);
+    private static final BlockPos CELL = new BlockPos(1, 2, 1);
+    private static final BlockPos PROVIDER = new BlockPos(1, 4, 1);
+
+    @GameTest(template = MATRIX)
+    @TestHolder(description = "Tests that replacing an induction cell with the same block keeps the cell's capacity in the matrix.")
+    public static void replaceCell(final MekGameTestHelper helper) {
+        assertReplacementKeepsMatrix(helper, CELL, MekanismBlocks.BASIC_INDUCTION_CELL.getBlock());
+    }
+
+    @GameTest(template = MATRIX)
+    @TestHolder(description = "Tests that replacing an induction provider with the same block keeps the provider's transfer rate in the matrix.")
+    public static void replaceProvider(final MekGameTestHelper helper) {
+        assertReplacementKeepsMatrix(helper, PROVIDER, MekanismBlocks.BASIC_INDUCTION_PROVIDER.getBlock());
+    }
+
+    @GameTest(template = MATRIX)
+    @TestHolder(description = "Tests that replacing an induction casing with the same block swaps the new casing into the matrix's structure.")
+    public static void replaceCasing(final MekGameTestHelper helper) {
+        assertReplacementKeepsMatrix(helper, CASING, MekanismBlocks.INDUCTION_CASING.getBlock(), () -> {
+            TileEntityInductionCasing casing = helper.requireBlockEntity(CASING, TileEntityInductionCasing.class);
+            helper.assertTrue(casing.getStructure().getTile(helper.absolutePos(CASING)) == casing, "Replacement casing should be part of the structure");
+        });
+    }
+
+    @GameTest(template = MATRIX)
+    @TestHolder(description = "Tests that replacing an induction cell with the same block only removes the energy that was in the removed cell from the matrix.")
+    public static void replaceCellEnergy(final MekGameTestHelper helper) {
+        AtomicLong expected = new AtomicLong();
+        helper.startSequence()
+              .thenWaitUntil(() -> helper.assertTrue(getMatrix(helper).isFormed(), "Matrix should be formed"))
+              .thenExecute(() -> {
+                  MatrixEnergyContainer energyContainer = getMatrix(helper).getEnergyContainer();
+                  energyContainer.insert(energyContainer.getMaxTransfer(), Action.EXECUTE, AutomationType.INTERNAL);
+              })
+              //Wait for the matrix to tick so that the inserted energy is added to its total
+              .thenExecuteAfter(2, () -> {
+                  MatrixEnergyContainer energyContainer = getMatrix(helper).getEnergyContainer();
+                  //Write the energy back to the cells so that we know how much of it is in the cell we are replacing
+                  energyContainer.writeBack();
+                  long cellEnergy = helper.requireBlockEntity(CELL, TileEntityInductionCell.class).getEnergyContainer().getEnergy();
+                  expected.set(energyContainer.getEnergy() - cellEnergy);
+                  helper.setBlock(CELL, Blocks.AIR);
+                  helper.setBlock(CELL, MekanismBlocks.BASIC_INDUCTION_CELL.getBlock());
+              })
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take one tick)
+              .thenExecuteAfter(5, () -> helper.assertValueEqual(getMatrix(helper).getEnergy(), expected.get(), "Matrix energy"))
+              .thenSucceed();
+    }
+
+    private static void assertReplacementKeepsMatrix(MekGameTestHelper helper, BlockPos pos, Block block) {
+        assertReplacementKeepsMatrix(helper, pos, block, () -> {});
+    }
+
+    private static void assertReplacementKeepsMatrix(MekGameTestHelper helper, BlockPos pos, Block block, Runnable extraChecks) {
+        AtomicReference<MatrixStats> expected = new AtomicReference<>();
+        helper.startSequence()
+              .thenWaitUntil(() -> helper.assertTrue(getMatrix(helper).isFormed(), "Matrix should be formed"))
+              .thenExecute(() -> {
+                  expected.set(MatrixStats.of(getMatrix(helper)));
+                  //Swap the block within the same tick, the same as if it was replaced by a mod or command
+                  helper.setBlock(pos, Blocks.AIR);
+                  helper.setBlock(pos, block);
+              })
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take one tick)
+              .thenExecuteAfter(5, () -> {
+                  MatrixMultiblockData matrix = getMatrix(helper);
+                  helper.assertTrue(matrix.isFormed(), "Matrix should still be formed");
+                  helper.assertValueEqual(MatrixStats.of(matrix), expected.get(), "Matrix stats");
+                  extraChecks.run();
+              })
+              .thenSucceed();
+    }
+
+    private static MatrixMultiblockData getMatrix(MekGameTestHelper helper) {
+        return helper.requireBlockEntity(CORNER, TileEntityInductionCasing.class).getMultiblock();
+    }
+
+    private record MatrixStats(long storageCap, long transferCap, int cells, int providers) {
+
+        private static MatrixStats of(MatrixMultiblockData matrix) {
+            return new MatrixStats(matrix.getStorageCap(), matrix.getTransferCap(), matrix.getCellCount(), matrix.getProviderCount());
+        }
+    }
+}
@@ -4,9 +4,11 @@ import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.capabilities.chemical.VariableCapacityChemicalTank;
 import mekanism.common.registries.MekanismChemicals;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,4 +31,17 @@ public class TurbineChemicalTank extends VariableCapacityChemicalTank {
         }
         return returned;
     }
-}
\ No newline at end of file
+
+    @Override
+    public long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (isEmpty()) {
+            //Inserting into an empty tank falls back to the stack based insert, which already keeps track of the new steam input
+            return super.insert(chemical, amount, action, automationType);
+        }
+        long remainder = super.insert(chemical, amount, action, automationType);
+        if (action == Action.EXECUTE && multiblock.isFormed()) {
+            multiblock.newSteamInput += amount - remainder;
+        }
+        return remainder;
+    }
+}
@@ -59,6 +59,12 @@ public class TurbineValidator extends CuboidStructureValidator<TurbineMultiblock
               GeneratorsBlockTypes.ROTATIONAL_COMPLEX, GeneratorsBlockTypes.ELECTROMAGNETIC_COIL, GeneratorsBlockTypes.SATURATING_CONDENSER);
     }
 
+    @Override
+    protected boolean canRevalidate(BlockState state) {
+        //Rotors store how many blades they house, which is counted by the postcheck
+        return !BlockType.is(state.getBlock(), GeneratorsBlockTypes.TURBINE_ROTOR);
+    }
+
     @Override
     public FormationResult postcheck(TurbineMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
         if (structure.length() % 2 != 1 || structure.width() % 2 != 1) {
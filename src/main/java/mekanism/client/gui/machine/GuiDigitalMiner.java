@@ -17,7 +17,7 @@ import mekanism.client.gui.element.tab.GuiVisualsTab;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.MinerEnergyContainer;
 import mekanism.common.content.miner.MinerFilter;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch.State;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.container.tile.MekanismTileContainer;
 import mekanism.common.inventory.warning.WarningTracker.WarningType;
@@ -69,7 +69,7 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Mek
                 runningType = MekanismLang.IDLE;
             }
             list.add(runningType.translate());
-            list.add(tile.searcher.state.getTextComponent());
+            list.add(tile.search.state.getTextComponent());
             list.add(MekanismLang.MINER_TO_MINE.translate(TextUtils.format(tile.getToMine())));
             return list;
         }) {
@@ -129,9 +129,9 @@ public class GuiDigitalMiner extends GuiMekanismTile<TileEntityDigitalMiner, Mek
     }
 
     private void updateEnabledButtons() {
-        startButton.active = tile.searcher.state == State.IDLE || !tile.isRunning();
-        stopButton.active = tile.searcher.state != State.IDLE && tile.isRunning();
-        configButton.active = tile.searcher.state == State.IDLE;
+        startButton.active = tile.search.state == State.IDLE || !tile.isRunning();
+        stopButton.active = tile.search.state != State.IDLE && tile.isRunning();
+        configButton.active = tile.search.state == State.IDLE;
     }
 
     @Override
@@ -6,6 +6,7 @@ import mekanism.common.block.BlockBounding;
 import mekanism.common.block.BlockCardboardBox;
 import mekanism.common.block.BlockMekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.transporter.TransporterItemIds;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.network.to_client.player_data.PacketPlayerData;
 import mekanism.common.network.to_client.player_data.PacketResetPlayerClient;
@@ -55,6 +56,7 @@ public class CommonPlayerTracker {
     public void onPlayerLogoutEvent(PlayerLoggedOutEvent event) {
         Player player = event.getEntity();
         Mekanism.playerState.clearPlayer(player.getUUID(), false);
+        TransporterItemIds.clearPlayer(player.getUUID());
     }
 
     @SubscribeEvent
@@ -47,8 +47,8 @@ import mekanism.common.content.sps.SPSValidator;
 import mekanism.common.content.tank.TankCache;
 import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterTransitSync;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicDrainCauldronInteraction;
@@ -96,6 +96,7 @@ import mekanism.common.registries.MekanismRecipeSerializersInternal;
 import mekanism.common.registries.MekanismRobitSkins;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
+import mekanism.common.tile.base.TileSleepTracker;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
@@ -309,7 +310,8 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
-        PathfinderCache.reset();
+        TransporterTransitSync.reset();
+        TileSleepTracker.reset();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
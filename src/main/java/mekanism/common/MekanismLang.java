@@ -188,6 +188,13 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
+    COMMAND_RESERVATIONS("command", "reservations"),
+    COMMAND_RESERVATIONS_NONE("command", "reservations.none"),
+    COMMAND_RESERVATIONS_DESTINATION("command", "reservations.destination"),
+    COMMAND_RESERVATIONS_SIDE("command", "reservations.side"),
+    COMMAND_RESERVATIONS_SLOT("command", "reservations.slot"),
+    COMMAND_SLEEP("command", "sleep"),
+    COMMAND_SLEEP_NONE("command", "sleep.none"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
@@ -637,6 +644,7 @@ public enum MekanismLang implements ILangEntry {
     NETWORK_READER_THROUGHPUT("network_reader", "throughput"),
     NETWORK_READER_CAPACITY("network_reader", "capacity"),
     NETWORK_READER_CONNECTED_SIDES("network_reader", "connected"),
+    NETWORK_READER_ROUTES("network_reader", "routes"),
     //Sorter
     SORTER_DEFAULT("logistical_sorter", "default"),
     SORTER_SINGLE_ITEM("logistical_sorter", "single_item"),
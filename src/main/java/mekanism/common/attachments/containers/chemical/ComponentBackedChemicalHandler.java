@@ -4,6 +4,7 @@ import java.util.List;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.ChemicalUtils;
 import mekanism.api.chemical.IChemicalTank;
@@ -11,6 +12,7 @@ import mekanism.api.chemical.IMekanismChemicalHandler;
 import mekanism.common.attachments.containers.ComponentBackedHandler;
 import mekanism.common.attachments.containers.ContainerType;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
@@ -51,6 +53,11 @@ public class ComponentBackedChemicalHandler extends ComponentBackedHandler<Chemi
         return ChemicalUtils.insert(stack, action, AutomationType.handler(side), size(), this);
     }
 
+    @Override
+    public long insertChemical(Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        return ChemicalUtils.insert(chemical, amount, action, AutomationType.handler(side), size(), this);
+    }
+
     @Override
     public ChemicalStack extractChemical(long amount, @Nullable Direction side, Action action) {
         return ChemicalUtils.extract(amount, action, AutomationType.handler(side), size(), this);
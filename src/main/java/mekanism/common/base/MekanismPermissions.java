@@ -54,6 +54,9 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_RADIATION_REDUCE_OTHERS = nodeSubCommand(COMMAND_RADIATION_REDUCE, "others");
     public static final CommandPermissionNode COMMAND_RADIATION_REMOVE_ALL = nodeSubCommand(COMMAND_RADIATION, "remove.all");
 
+    public static final CommandPermissionNode COMMAND_RESERVATIONS = nodeOpCommand("reservations");
+    public static final CommandPermissionNode COMMAND_SLEEP = nodeOpCommand("sleep");
+
     public static final CommandPermissionNode COMMAND_TEST_RULES = nodeOpCommand("test_rules");
     public static final CommandPermissionNode COMMAND_TP = nodeOpCommand("tp");
     public static final CommandPermissionNode COMMAND_TP_POP = nodeOpCommand("tp_pop");
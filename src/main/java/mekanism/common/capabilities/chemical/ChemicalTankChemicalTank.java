@@ -7,9 +7,11 @@ import mekanism.api.AutomationType;
 import mekanism.api.IContentsListener;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.chemical.BasicChemicalTank;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.attribute.ChemicalAttributeValidator;
 import mekanism.common.tier.ChemicalTankTier;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -61,6 +63,20 @@ public class ChemicalTankChemicalTank extends BasicChemicalTank {
         return super.extract(amount, action.combine(!isCreative), automationType);
     }
 
+    @Override
+    public long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (isEmpty()) {
+            //Inserting into an empty tank falls back to the stack based insert, which handles setting the type of empty creative tanks
+            return super.insert(chemical, amount, action, automationType);
+        }
+        return super.insert(chemical, amount, action.combine(!isCreative), automationType);
+    }
+
+    @Override
+    public long extract(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        return super.extract(chemical, amount, action.combine(!isCreative), automationType);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -6,11 +6,13 @@ import java.util.function.Predicate;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.IMekanismChemicalHandler;
 import mekanism.common.capabilities.DynamicHandler;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -44,6 +46,18 @@ public class DynamicChemicalHandler extends DynamicHandler<IChemicalTank> implem
         return canInsert.test(side) ? IMekanismChemicalHandler.super.insertChemical(stack, side, action) : stack;
     }
 
+    @Override
+    public long insertChemical(int tank, Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        //If we can insert into the specific side, try to. Otherwise exit
+        return canInsert.test(side) ? IMekanismChemicalHandler.super.insertChemical(tank, chemical, amount, side, action) : amount;
+    }
+
+    @Override
+    public long insertChemical(Holder<Chemical> chemical, long amount, @Nullable Direction side, Action action) {
+        //If we can insert into the specific side, try to. Otherwise exit
+        return canInsert.test(side) ? IMekanismChemicalHandler.super.insertChemical(chemical, amount, side, action) : amount;
+    }
+
     @Override
     public ChemicalStack extractChemical(long amount, @Nullable Direction side, Action action) {
         //If we can extract from a specific side, try to. Otherwise exit
@@ -15,6 +15,7 @@ import mekanism.api.chemical.attribute.ChemicalAttributes;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.tile.TileEntityRadioactiveWasteBarrel;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -59,6 +60,25 @@ public class StackedWasteBarrel extends VariableCapacityChemicalTank implements
         return remainder;
     }
 
+    @Override
+    public long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        if (isEmpty()) {
+            //Inserting into an empty tank falls back to the stack based insert, which already handles sending the remainder to the tank above
+            return super.insert(chemical, amount, action, automationType);
+        }
+        long remainder = super.insert(chemical, amount, action, automationType);
+        //Ensure we have the same type of gas stored as we failed to insert, in which case we want to try to insert to the one above
+        if (remainder > 0 && stored.is(chemical)) {
+            //If we have any leftover check if we can send it to the tank that is above
+            TileEntityRadioactiveWasteBarrel tileAbove = WorldUtils.getTileEntity(TileEntityRadioactiveWasteBarrel.class, tile.getLevel(), tile.getBlockPos().above());
+            if (tileAbove != null) {
+                //Note: We do external so that it is not limited by the internal rate limits
+                remainder = tileAbove.getChemicalTank().insert(chemical, remainder, action, AutomationType.EXTERNAL);
+            }
+        }
+        return remainder;
+    }
+
     @Override
     public long growStack(long amount, Action action) {
         long grownAmount = super.growStack(amount, action);
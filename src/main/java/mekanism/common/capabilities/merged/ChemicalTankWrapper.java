@@ -8,6 +8,7 @@ import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.attribute.ChemicalAttributeValidator;
+import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 
@@ -65,6 +66,17 @@ public class ChemicalTankWrapper implements IChemicalTank {
         return internal.extract(amount, action, automationType);
     }
 
+    @Override
+    public long insert(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        //Only allow inserting if we pass the check
+        return canInsert() ? internal.insert(chemical, amount, action, automationType) : amount;
+    }
+
+    @Override
+    public long extract(Holder<Chemical> chemical, long amount, Action action, AutomationType automationType) {
+        return internal.extract(chemical, amount, action, automationType);
+    }
+
     @Override
     public long getCapacity() {
         return internal.getCapacity();
@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 import mekanism.api.Action;
 import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
@@ -11,6 +12,7 @@ import mekanism.api.chemical.IMekanismChemicalHandler;
 import mekanism.api.chemical.ISidedChemicalHandler;
 import mekanism.common.capabilities.holder.IHolder;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
@@ -80,6 +82,16 @@ public class ProxyChemicalHandler extends ProxyHandler implements IChemicalHandl
         return readOnlyInsert() ? stack : sidedHandler.insertChemical(stack, side, action);
     }
 
+    @Override
+    public long insertChemical(int tank, Holder<Chemical> chemical, long amount, Action action) {
+        return readOnlyInsert() ? amount : sidedHandler.insertChemical(tank, chemical, amount, side, action);
+    }
+
+    @Override
+    public long insertChemical(Holder<Chemical> chemical, long amount, Action action) {
+        return readOnlyInsert() ? amount : sidedHandler.insertChemical(chemical, amount, side, action);
+    }
+
     @Override
     public ChemicalStack extractChemical(long amount, Action action) {
         return readOnlyExtract() ? ChemicalStack.EMPTY : sidedHandler.extractChemical(amount, side, action);
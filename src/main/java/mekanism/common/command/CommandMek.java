@@ -42,6 +42,8 @@ public class CommandMek {
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
               .then(RadiationCommand.register())
+              .then(ReservationsCommand.register())
+              .then(SleepCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register());
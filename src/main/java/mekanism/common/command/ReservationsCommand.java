@@ -0,0 +1,84 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import java.util.Map;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.content.transporter.ReservationLedger;
+import mekanism.common.content.transporter.ReservationLedger.SideReservations;
+import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.util.text.BooleanStateDisplay.YesNo;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Debug command for dumping the state of the ledgers that keep track of how much room the stacks that are in flight through logistical transporters are expected to
+ * take up in their destinations.
+ */
+public class ReservationsCommand {
+
+    private ReservationsCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("reservations")
+              .requires(MekanismPermissions.COMMAND_RESERVATIONS)
+              .executes(ctx -> {
+                  CommandSourceStack source = ctx.getSource();
+                  int destinations = 0;
+                  int stacks = 0;
+                  for (Map.Entry<GlobalPos, ReservationLedger> entry : TransporterManager.getLedgers().entrySet()) {
+                      if (entry.getKey().dimension() == source.getLevel().dimension()) {
+                          destinations++;
+                          stacks += entry.getValue().getStackCount();
+                      }
+                  }
+                  int destinationCount = destinations;
+                  int stackCount = stacks;
+                  source.sendSuccess(() -> MekanismLang.COMMAND_RESERVATIONS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stackCount, EnumColor.INDIGO,
+                        destinationCount), false);
+                  return destinations;
+              }).then(Commands.argument("pos", BlockPosArgument.blockPos())
+                    .executes(ctx -> {
+                        CommandSourceStack source = ctx.getSource();
+                        BlockPos pos = BlockPosArgument.getBlockPos(ctx, "pos");
+                        return dump(source, pos);
+                    }));
+    }
+
+    private static int dump(CommandSourceStack source, BlockPos pos) {
+        ReservationLedger ledger = TransporterManager.getLedger(GlobalPos.of(source.getLevel().dimension(), pos));
+        if (ledger == null) {
+            source.sendSuccess(() -> MekanismLang.COMMAND_RESERVATIONS_NONE.translateColored(EnumColor.GRAY, EnumColor.INDIGO, getPosition(pos)), false);
+            return 0;
+        }
+        source.sendSuccess(() -> MekanismLang.COMMAND_RESERVATIONS_DESTINATION.translateColored(EnumColor.GRAY, EnumColor.INDIGO, getPosition(pos), EnumColor.INDIGO,
+              ledger.getStackCount(), EnumColor.INDIGO, ledger.getRebuilds()), false);
+        for (Map.Entry<Direction, SideReservations> entry : ledger.getSides().entrySet()) {
+            SideReservations reservations = entry.getValue();
+            source.sendSuccess(() -> MekanismLang.COMMAND_RESERVATIONS_SIDE.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey().getSerializedName(),
+                  EnumColor.INDIGO, reservations.getSlots(), EnumColor.INDIGO, reservations.getPendingCount(), YesNo.of(reservations.isBlocked(), true)), false);
+            for (int slot = 0; slot < reservations.getSlots(); slot++) {
+                int reserved = reservations.getReserved(slot);
+                ItemStack type = reservations.getReservedType(slot);
+                if (reserved > 0 && type != null) {
+                    int index = slot;
+                    source.sendSuccess(() -> MekanismLang.COMMAND_RESERVATIONS_SLOT.translateColored(EnumColor.GRAY, EnumColor.INDIGO, index, EnumColor.INDIGO,
+                          reserved, type.getHoverName()), false);
+                }
+            }
+        }
+        return ledger.getStackCount();
+    }
+
+    private static Component getPosition(BlockPos pos) {
+        return MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ());
+    }
+}
@@ -0,0 +1,46 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import java.util.Map;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.tile.base.TileSleepTracker;
+import mekanism.common.tile.base.TileSleepTracker.SleepCounts;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+/**
+ * Debug command for reporting how many of the loaded machines in each dimension are sleeping because they have nothing to do, and how many are still ticking.
+ */
+public class SleepCommand {
+
+    private SleepCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("sleep")
+              .requires(MekanismPermissions.COMMAND_SLEEP)
+              .executes(ctx -> {
+                  CommandSourceStack source = ctx.getSource();
+                  Map<ResourceKey<Level>, SleepCounts> counts = TileSleepTracker.getCounts();
+                  if (counts.isEmpty()) {
+                      source.sendSuccess(() -> MekanismLang.COMMAND_SLEEP_NONE.translateColored(EnumColor.GRAY), false);
+                      return 0;
+                  }
+                  int sleeping = 0;
+                  for (Map.Entry<ResourceKey<Level>, SleepCounts> entry : counts.entrySet()) {
+                      ServerLevel level = source.getServer().getLevel(entry.getKey());
+                      Object dimension = level == null ? entry.getKey().location() : level;
+                      SleepCounts dimensionCounts = entry.getValue();
+                      source.sendSuccess(() -> MekanismLang.COMMAND_SLEEP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, dimension, EnumColor.INDIGO,
+                            dimensionCounts.sleeping(), EnumColor.INDIGO, dimensionCounts.active()), false);
+                      sleeping += dimensionCounts.sleeping();
+                  }
+                  return sleeping;
+              });
+    }
+}
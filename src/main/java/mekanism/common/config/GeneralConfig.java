@@ -33,6 +33,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedBooleanValue sleepIdleMachines;
     public final CachedBooleanValue strictUnboxing;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
@@ -45,6 +46,11 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue maxSolarNeutronActivatorRate;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
+    //Transmitters
+    public final CachedBooleanValue transporterSingleSourceRouting;
+    public final CachedIntValue transporterRouteCacheSize;
+    public final CachedIntValue acceptorBackOffTicks;
+    public final CachedBooleanValue parallelOrphanAssignment;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -76,6 +82,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
     public final CachedBooleanValue easyMinerFilters;
+    public final CachedIntValue minerSearchThreads;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -92,6 +99,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
     public final CachedLongValue entangloporterChemicalBuffer;
+    //QIO
+    public final CachedIntValue qioCountSyncInterval;
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
@@ -131,6 +140,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("allowChunkloading", true));
         blockDeactivationDelay = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_DEACTIVATION_DELAY.applyToBuilder(builder)
               .defineInRange("blockDeactivationDelay", 3 * SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        sleepIdleMachines = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_SLEEP_IDLE_MACHINES.applyToBuilder(builder)
+              .define("sleepIdleMachines", true));
         aestheticWorldDamage = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_AESTHETIC_DAMAGE.applyToBuilder(builder)
               .define("aestheticWorldDamage", true));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_ALLOY_UPGRADING.applyToBuilder(builder)
@@ -141,6 +152,17 @@ public class GeneralConfig extends BaseMekanismConfig {
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_RATE_SNA.applyToBuilder(builder)
               .defineInRange("maxSolarNeutronActivatorRate", 64, 1, 1_024));
 
+        MekanismConfigTranslations.GENERAL_TRANSMITTERS.applyToBuilder(builder).push("transmitters");
+        transporterSingleSourceRouting = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_TRANSMITTERS_SINGLE_SOURCE_ROUTING.applyToBuilder(builder)
+              .define("singleSourceRouting", false));
+        transporterRouteCacheSize = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_TRANSMITTERS_ROUTE_CACHE_SIZE.applyToBuilder(builder)
+              .defineInRange("routeCacheSize", 4_096, 1, 1_000_000));
+        acceptorBackOffTicks = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_TRANSMITTERS_ACCEPTOR_BACK_OFF.applyToBuilder(builder)
+              .defineInRange("acceptorBackOffTicks", 10, 0, 1_200));
+        parallelOrphanAssignment = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_TRANSMITTERS_PARALLEL_ORPHANS.applyToBuilder(builder)
+              .define("parallelOrphanAssignment", false));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_HEATER.applyToBuilder(builder).push("heater");
         heatPerFuelTick = CachedDoubleValue.wrap(this, MekanismConfigTranslations.GENERAL_FUELWOOD_HEAT.applyToBuilder(builder)
               .defineInRange("heatPerFuelTick", 400, 0.1, 4_000_000));
@@ -233,6 +255,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
         easyMinerFilters = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_EASY_FILTERS.applyToBuilder(builder)
               .define("easyMinerFilters", false));
+        minerSearchThreads = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_SEARCH_THREADS.applyToBuilder(builder)
+              .defineInRange("searchThreads", 2, 1, 64));
         builder.pop();
 
         MekanismConfigTranslations.GENERAL_LASER.applyToBuilder(builder).push("laser");
@@ -270,6 +294,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalBuffer", ChemicalTankTier.ULTIMATE.getBaseStorage(), 1, Long.MAX_VALUE));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_QIO.applyToBuilder(builder).push("qio");
+        qioCountSyncInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_QIO_COUNT_SYNC_INTERVAL.applyToBuilder(builder)
+              .defineInRange("countSyncInterval", 5, 1, 5 * SharedConstants.TICKS_PER_SECOND));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_SECURITY.applyToBuilder(builder).push("security");
         allowProtection = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_SECURITY_ENABLED.applyToBuilder(builder)
               .define("allowProtection", true));
@@ -115,6 +115,9 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "How many ticks must pass until a block's active state is synced with the client when the block stops being active. This prevents rapid state changes "
           + "that can cause lag. Note: Mekanism's blocks always sync immediately when they go from inactive to active; this only controls the time it takes to go from "
           + "active to inactive."),
+    GENERAL_SLEEP_IDLE_MACHINES("general.misc.sleep_idle_machines", "Sleep Idle Machines",
+          "When enabled, machines that are unable to process their recipe and have nothing to eject stop doing work each tick until their contents, redstone "
+          + "state, configuration, or neighbors change."),
     GENERAL_AESTHETIC_DAMAGE("general.misc.aesthetic_damage", "Aesthetic World Damage", "If enabled, lasers can break blocks and the flamethrower can start fires."),
     GENERAL_ALLOY_UPGRADING("general.misc.alloy_upgrading", "Alloy Transmitter Upgrading",
           "Allow upgrading Universal Cables, Mechanical Pipes, Pressurized Tubes, Logistical Transporters, and Thermodynamic Conductors by right clicking them "
@@ -124,6 +127,19 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_RATE_SNA("general.misc.rate.sna", "Peak SNA Processing Rate",
           "Peak processing rate in mB/t for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments."),
 
+    GENERAL_TRANSMITTERS("general.transmitters", "Transmitter Settings", "Settings for configuring how transmitter networks are processed", true),
+    GENERAL_TRANSMITTERS_SINGLE_SOURCE_ROUTING("general.transmitters.single_source_routing", "Single Source Transporter Routing",
+          "When enabled, Logistical Transporters find the paths to all possible destinations of a stack with a single search rather than one search per destination. "
+          + "This is much cheaper when a single source can feed many inventories."),
+    GENERAL_TRANSMITTERS_ROUTE_CACHE_SIZE("general.transmitters.route_cache_size", "Transporter Route Cache Size",
+          "Maximum number of routes each Logistical Transporter network remembers. When more routes are found, the least recently used ones are forgotten."),
+    GENERAL_TRANSMITTERS_ACCEPTOR_BACK_OFF("general.transmitters.acceptor_back_off", "Acceptor Back-off Ticks",
+          "Number of ticks Universal Cable networks skip acceptors that had no room for energy before checking them again. Acceptors are checked again sooner if they "
+          + "change or their contents change. Set to zero to check every acceptor every tick."),
+    GENERAL_TRANSMITTERS_PARALLEL_ORPHANS("general.transmitters.parallel_orphans", "Parallel Orphan Assignment",
+          "When enabled, newly placed or loaded transmitters are grouped into networks by finding the clusters they form in parallel from a snapshot of how they "
+          + "connect. This reduces the lag spike when loading large transmitter networks."),
+
     GENERAL_HEATER("general.heater", "Heater Settings", "Settings for configuring heaters", true),
     GENERAL_FUELWOOD_HEAT("general.heater.fuelwood.heat", "Fuelwood Heat per Tick", "Amount of heat produced per fuel tick of a fuel's burn time in the Fuelwood Heater."),
     GENERAL_FUELWOOD_DURATION("general.heater.fuelwood.duration", "Fuelwood Burn Duration",
@@ -200,6 +216,9 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_MINER_EASY_FILTERS("general.miner.easy_filters", "Easy Miner Filters",
           "Allows dragging items from recipe viewers into the target slot of Digital Miner filters. This allows selecting specific blocks without having to acquire "
           + "an instance of the block first."),
+    GENERAL_MINER_SEARCH_THREADS("general.miner.search_threads", "Search Threads",
+          "Number of threads shared by all Digital Miners for searching for blocks to mine. Searches are split up by chunk, so a single miner can use all of the "
+          + "threads, and searches that are started while all the threads are busy wait for their turn."),
 
     GENERAL_LASER("general.laser", "Laser Settings", "Settings for configuring Lasers", true),
     GENERAL_LASER_RANGE("general.laser.range", "Range", "How far in blocks a laser can travel."),
@@ -230,6 +249,11 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_QE_BUFFER_CHEMICAL("general.qe.buffer.chemical", "Chemical Buffer",
           "Maximum chemical buffer (mb) of an Entangoloporter frequency - i.e. the maximum transfer per tick per frequency. Default is the ultimate chemical tank's capacity."),
 
+    GENERAL_QIO("general.qio", "QIO Settings", "Settings for configuring Mekanism's QIO", true),
+    GENERAL_QIO_COUNT_SYNC_INTERVAL("general.qio.count_sync_interval", "Count Sync Interval",
+          "Minimum number of ticks between sending changes to the number of stored items to players viewing a QIO frequency. Items being added or removed entirely "
+          + "are still sent right away. Higher values reduce network traffic from busy frequencies at the cost of the displayed counts updating less often."),
+
     GENERAL_SECURITY("general.security", "Block security/protection Settings", "Settings for configuring Mekanism's security system", true),
     GENERAL_SECURITY_ENABLED("general.security.enabled", "Allow Protection",
           "Enable the security system. This allows players to prevent other players from accessing their machines. Does NOT affect Frequencies."),
@@ -18,6 +18,7 @@ import mekanism.api.RelativeSide;
 import mekanism.api.SerializationConstants;
 import mekanism.api.SerializerHelper;
 import mekanism.api.chemical.BasicChemicalTank;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
@@ -55,6 +56,7 @@ import mekanism.common.util.EnumUtils;
 import mekanism.common.util.FluidUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.core.Holder;
 import net.minecraft.core.UUIDUtil;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -289,9 +291,10 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
     }
 
     private void addChemicalTransferHandler(Map<TransmissionType, Consumer<?>> typesToEject, List<Runnable> transferHandlers, int expected) {
-        ChemicalStack toSend = storedChemical.extract(storedChemical.getCapacity(), Action.SIMULATE, AutomationType.INTERNAL);
-        if (!toSend.isEmpty()) {
-            SendingChemicalHandlerTarget target = new SendingChemicalHandlerTarget(toSend, expected, storedChemical);
+        Holder<Chemical> chemical = storedChemical.getType().getAsHolder();
+        long toSend = storedChemical.extract(chemical, storedChemical.getCapacity(), Action.SIMULATE, AutomationType.INTERNAL);
+        if (toSend > 0) {
+            SendingChemicalHandlerTarget target = new SendingChemicalHandlerTarget(chemical, toSend, expected, storedChemical);
             typesToEject.put(TransmissionType.CHEMICAL, target);
             transferHandlers.add(target);
         }
@@ -349,11 +352,13 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
 
     private static class SendingChemicalHandlerTarget extends ChemicalHandlerTarget implements Runnable, Consumer<IChemicalHandler> {
 
-        private final ChemicalStack toSend;
+        private final Holder<Chemical> chemical;
+        private final long toSend;
         private final IChemicalTank storedChemical;
 
-        public SendingChemicalHandlerTarget(ChemicalStack toSend, int expectedSize, IChemicalTank storedChemical) {
+        public SendingChemicalHandlerTarget(Holder<Chemical> chemical, long toSend, int expectedSize, IChemicalTank storedChemical) {
             super(expectedSize);
+            this.chemical = chemical;
             this.toSend = toSend;
             this.storedChemical = storedChemical;
         }
@@ -361,13 +366,13 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
         @Override
         public void run() {
             if (getHandlerCount() > 0) {
-                storedChemical.extract(EmitUtils.sendToAcceptors(this, toSend.getAmount(), toSend), Action.EXECUTE, AutomationType.INTERNAL);
+                storedChemical.extract(chemical, EmitUtils.sendToAcceptors(this, toSend, chemical), Action.EXECUTE, AutomationType.INTERNAL);
             }
         }
 
         @Override
         public void accept(IChemicalHandler handler) {
-            if (ChemicalUtil.canInsert(handler, toSend)) {
+            if (ChemicalUtil.canInsert(handler, chemical, toSend)) {
                 addHandler(handler);
             }
         }
@@ -1,9 +1,7 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
@@ -17,12 +15,16 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 
+/**
+ * Energy container for the Induction Matrix. The matrix keeps track of the total energy stored in its cells, and only writes it back to the cells' energy containers
+ * when they are saved, dropped, or stop being part of the matrix. This keeps ticking the matrix from having to go through all the cells and mark them for saving
+ * whenever energy gets added or removed.
+ */
 @NothingNullByDefault
 public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
-    private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
-    private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
+    private final Map<BlockPos, TileEntityInductionCell> cells = new Object2ObjectOpenHashMap<>();
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -34,6 +36,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private long cachedTotal = 0L;
     private long transferCap = 0L;
     private long storageCap = 0L;
+    /**
+     * Whether {@link #cachedTotal} changed since it was last written back to the cells.
+     */
+    private boolean needsWriteBack;
 
     private final MatrixMultiblockData multiblock;
 
@@ -44,7 +50,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void addCell(BlockPos pos, TileEntityInductionCell cell) {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
-        cells.put(pos, energyContainer);
+        cells.put(pos, cell);
         storageCap = MathUtils.addClamped(storageCap, energyContainer.getMaxEnergy());
         cachedTotal = MathUtils.addClamped(cachedTotal, energyContainer.getEnergy());
     }
@@ -54,29 +60,31 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         transferCap = MathUtils.addClamped(transferCap, provider.tier.getOutput());
     }
 
-    //TODO: I believe this is needed or at least will be after we eventually rewrite some of the multiblock system
-    // currently I think it may just be rechecking the entire structure when something changes internally
-    // We need to validate that does properly happen even if the cell is floating in the middle and not touching any walls
-    // We may also want to make cells and providers extend TileEntityInternalMultiblock
+    /**
+     * Removes a cell or provider that is being removed from the world while the matrix is formed.
+     *
+     * @implNote This only keeps the totals accurate until the structure gets rebuilt. {@link MatrixValidator} makes sure that always happens when a cell or provider
+     * is removed, even if it is replaced by the same block, as rebuilding is what adds the replacement to the matrix.
+     */
     public void removeInternal(BlockPos pos) {
-        if (invalidPositions.add(pos)) {
-            if (providers.containsKey(pos)) {
-                //It is a provider
-                transferCap -= providers.get(pos).getOutput();
-            } else if (cells.containsKey(pos)) {
-                //It is a cell
-                //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
-                // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
-                IEnergyContainer cellContainer = cells.get(pos);
-                storageCap += cellContainer.getMaxEnergy();
-                cachedTotal -= cellContainer.getEnergy();
-            }
+        InductionProviderTier provider = providers.remove(pos);
+        if (provider != null) {
+            transferCap -= provider.getOutput();
+        } else if (cells.containsKey(pos)) {
+            //Write the energy back to the cells first, so that the removed cell contains exactly its share of the energy,
+            // which can then be removed from the total without it being able to become negative
+            writeBack();
+            TileEntityInductionCell cell = cells.remove(pos);
+            MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
+            storageCap -= energyContainer.getMaxEnergy();
+            cachedTotal -= energyContainer.getEnergy();
         }
     }
 
     public void invalidate() {
         //Force save
         tick();
+        writeBack();
         //And reset everything
         cells.clear();
         providers.clear();
@@ -90,19 +98,16 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     public void tick() {
-        if (!invalidPositions.isEmpty()) {
-            for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
-                providers.remove(invalidPosition);
+        if (queuedInput != queuedOutput) {
+            //Only update the total, the energy gets written back to the cells when they are saved or removed
+            cachedTotal = Math.clamp(MathUtils.addClamped(cachedTotal, queuedInput) - queuedOutput, 0L, storageCap);
+            if (!needsWriteBack) {
+                needsWriteBack = true;
+                //Mark the cells as needing to be saved so that the energy gets written back to them when the chunks they are in get saved
+                for (TileEntityInductionCell cell : cells.values()) {
+                    cell.markForSave();
+                }
             }
-            invalidPositions.clear();
-        }
-        if (queuedInput < queuedOutput) {
-            //queuedInput is smaller - we are removing energy
-            removeEnergy(queuedOutput - queuedInput);
-        } else if (queuedInput > queuedOutput) {
-            //queuedInput is larger - we are adding energy
-            addEnergy(queuedInput - queuedOutput);
         }
         lastInput = queuedInput;
         lastOutput = queuedOutput;
@@ -110,35 +115,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         queuedOutput = 0L;
     }
 
-    private void addEnergy(long energy) {
-        cachedTotal += energy;
-        for (IEnergyContainer container : cells.values()) {
-            //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            long remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (remainder < energy) {
-                //Our cell accepted at least some energy
-                if (remainder == 0L) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't have any energy left to add
-                    break;
-                }
-                energy = remainder;
-            }
-        }
-    }
-
-    private void removeEnergy(long energy) {
-        cachedTotal -= energy;
-        for (IEnergyContainer container : cells.values()) {
-            //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            long extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (extracted > 0L) {
-                energy -= extracted;
-                if (energy == 0L) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't need to remove any more energy
-                    break;
-                }
+    /**
+     * Distributes the total energy of the matrix to the energy containers of the cells, if it changed since the last time it was written back.
+     */
+    public void writeBack() {
+        if (needsWriteBack) {
+            needsWriteBack = false;
+            long remaining = cachedTotal;
+            for (TileEntityInductionCell cell : cells.values()) {
+                //Note: setting the energy of the cell's energy container handles marking the cell for saving if it changes
+                MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
+                long energy = Math.min(remaining, energyContainer.getMaxEnergy());
+                energyContainer.setEnergy(energy);
+                remaining -= energy;
             }
         }
     }
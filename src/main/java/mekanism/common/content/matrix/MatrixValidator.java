@@ -38,9 +38,7 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
         if (super.validateInner(state, chunkMap, pos)) {
             return true;
         }
-        if (BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
-              MekanismBlockTypes.ELITE_INDUCTION_CELL, MekanismBlockTypes.ULTIMATE_INDUCTION_CELL, MekanismBlockTypes.BASIC_INDUCTION_PROVIDER,
-              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER)) {
+        if (isCellOrProvider(state)) {
             //Compare blocks against the type before bothering to look up the tile
             BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
             if (tile instanceof TileEntityInductionCell cell) {
@@ -55,6 +53,18 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
         return false;
     }
 
+    @Override
+    protected boolean canRevalidate(BlockState state) {
+        //Cells and providers are added to the matrix's energy container by the postcheck, so the new tile has to be added by rebuilding the structure
+        return !isCellOrProvider(state);
+    }
+
+    private static boolean isCellOrProvider(BlockState state) {
+        return BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
+              MekanismBlockTypes.ELITE_INDUCTION_CELL, MekanismBlockTypes.ULTIMATE_INDUCTION_CELL, MekanismBlockTypes.BASIC_INDUCTION_PROVIDER,
+              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER);
+    }
+
     @Override
     public FormationResult postcheck(MatrixMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
         for (TileEntityInductionCell cell : cells) {
@@ -0,0 +1,300 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.Arrays;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Positions a Digital Miner still has to mine, grouped by chunk and then by chunk section. Each section that has positions to mine stores them as a bitmap of the
+ * indices within the section, so the memory used depends on how many sections have blocks to mine rather than on the size of the miner's volume.
+ * <p>
+ * Positions are handed out one chunk at a time, and from the top of the chunk down. We go from the top down to avoid issues where we break blocks supporting ones
+ * that are affected by gravity and then are unable to break them after they have fallen. Each chunk keeps track of where the last position was found, so that finding
+ * the next position continues from there instead of starting from the top of the chunk again.
+ */
+public class MinerQueue {
+
+    private static final int SECTION_SIZE = SectionPos.SECTION_SIZE * SectionPos.SECTION_SIZE * SectionPos.SECTION_SIZE;
+    private static final int WORDS_PER_SECTION = SECTION_SIZE / Long.SIZE;
+    /**
+     * Chunk position, section y, and then the words of the section's bitmap.
+     */
+    private static final int SERIALIZED_SECTION_LENGTH = WORDS_PER_SECTION + 2;
+
+    private final Long2ObjectLinkedOpenHashMap<ChunkQueue> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    public void add(BlockPos pos) {
+        long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (chunks.computeIfAbsent(chunk, ChunkQueue::new).add(pos.getX(), pos.getY(), pos.getZ())) {
+            size++;
+        }
+    }
+
+    /**
+     * Adds all the positions in the given chunk queue.
+     */
+    public void addChunk(ChunkQueue chunkQueue) {
+        if (chunkQueue.isEmpty()) {
+            return;
+        }
+        ChunkQueue existing = chunks.putIfAbsent(chunkQueue.chunkPos, chunkQueue);
+        if (existing == null) {
+            size += chunkQueue.size;
+        } else {
+            size -= existing.size;
+            existing.addAll(chunkQueue);
+            size += existing.size;
+        }
+    }
+
+    /**
+     * @return The chunk the next position to mine is in, or {@link ChunkPos#INVALID_CHUNK_POS} if the queue is empty.
+     */
+    public long peekChunk() {
+        return chunks.isEmpty() ? ChunkPos.INVALID_CHUNK_POS : chunks.firstLongKey();
+    }
+
+    /**
+     * @return The next position to mine, or {@code null} if the queue is empty.
+     */
+    @Nullable
+    public BlockPos peek() {
+        return chunks.isEmpty() ? null : chunks.get(chunks.firstLongKey()).peek();
+    }
+
+    /**
+     * Removes the given position from the queue.
+     *
+     * @return {@code true} if the chunk the position was in has no more positions to mine.
+     */
+    public boolean remove(BlockPos pos) {
+        long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        ChunkQueue chunkQueue = chunks.get(chunk);
+        if (chunkQueue == null) {
+            return true;
+        }
+        if (chunkQueue.remove(pos.getX(), pos.getY(), pos.getZ())) {
+            size--;
+        }
+        if (chunkQueue.isEmpty()) {
+            chunks.remove(chunk);
+            return true;
+        }
+        return false;
+    }
+
+    public LongArrayTag serialize() {
+        LongArrayList data = new LongArrayList(chunks.size() * SERIALIZED_SECTION_LENGTH);
+        for (Long2ObjectMap.Entry<ChunkQueue> entry : chunks.long2ObjectEntrySet()) {
+            ChunkQueue chunkQueue = entry.getValue();
+            for (int i = 0; i < chunkQueue.sections.length; i++) {
+                long[] section = chunkQueue.sections[i];
+                if (section != null) {
+                    data.add(entry.getLongKey());
+                    data.add(chunkQueue.minSectionY + i);
+                    data.addElements(data.size(), section);
+                }
+            }
+        }
+        return new LongArrayTag(data.toLongArray());
+    }
+
+    public static MinerQueue deserialize(long[] data) {
+        MinerQueue queue = new MinerQueue();
+        for (int start = 0; start + SERIALIZED_SECTION_LENGTH <= data.length; start += SERIALIZED_SECTION_LENGTH) {
+            ChunkQueue chunkQueue = queue.chunks.computeIfAbsent(data[start], ChunkQueue::new);
+            long[] section = Arrays.copyOfRange(data, start + 2, start + SERIALIZED_SECTION_LENGTH);
+            int count = 0;
+            for (long word : section) {
+                count += Long.bitCount(word);
+            }
+            if (count > 0) {
+                chunkQueue.setSection((int) data[start + 1], section, count);
+                queue.size += count;
+            }
+        }
+        queue.chunks.values().removeIf(ChunkQueue::isEmpty);
+        return queue;
+    }
+
+    /**
+     * Positions to mine in a single chunk.
+     */
+    public static class ChunkQueue {
+
+        private static final int NO_CURSOR = -1;
+
+        private final long chunkPos;
+        private long[][] sections = new long[0][];
+        private int minSectionY;
+        private int size;
+        /**
+         * Index into {@link #sections} and the index in that section that we last found a position at. Everything above this has been removed.
+         */
+        private int cursorSection = NO_CURSOR;
+        private int cursorIndex;
+
+        public ChunkQueue(long chunkPos) {
+            this.chunkPos = chunkPos;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return {@code true} if the position wasn't already in the queue.
+         */
+        public boolean add(int x, int y, int z) {
+            int sectionIndex = ensureSection(SectionPos.blockToSectionCoord(y));
+            long[] section = sections[sectionIndex];
+            if (section == null) {
+                sections[sectionIndex] = section = new long[WORDS_PER_SECTION];
+            }
+            int index = localIndex(x, y, z);
+            long mask = 1L << index;
+            if ((section[index >> 6] & mask) != 0) {
+                return false;
+            }
+            section[index >> 6] |= mask;
+            size++;
+            //The position may be above the cursor, so start from the top again
+            cursorSection = NO_CURSOR;
+            return true;
+        }
+
+        private void addAll(ChunkQueue other) {
+            for (int i = 0; i < other.sections.length; i++) {
+                long[] otherSection = other.sections[i];
+                if (otherSection != null) {
+                    int sectionIndex = ensureSection(other.minSectionY + i);
+                    long[] section = sections[sectionIndex];
+                    if (section == null) {
+                        sections[sectionIndex] = section = new long[WORDS_PER_SECTION];
+                    }
+                    for (int word = 0; word < WORDS_PER_SECTION; word++) {
+                        size += Long.bitCount(otherSection[word] & ~section[word]);
+                        section[word] |= otherSection[word];
+                    }
+                }
+            }
+            cursorSection = NO_CURSOR;
+        }
+
+        private void setSection(int sectionY, long[] section, int count) {
+            int sectionIndex = ensureSection(sectionY);
+            if (sections[sectionIndex] != null) {
+                for (long word : sections[sectionIndex]) {
+                    size -= Long.bitCount(word);
+                }
+            }
+            sections[sectionIndex] = section;
+            size += count;
+            cursorSection = NO_CURSOR;
+        }
+
+        private boolean remove(int x, int y, int z) {
+            int sectionIndex = SectionPos.blockToSectionCoord(y) - minSectionY;
+            if (sectionIndex < 0 || sectionIndex >= sections.length || sections[sectionIndex] == null) {
+                return false;
+            }
+            long[] section = sections[sectionIndex];
+            int index = localIndex(x, y, z);
+            long mask = 1L << index;
+            if ((section[index >> 6] & mask) == 0) {
+                return false;
+            }
+            section[index >> 6] &= ~mask;
+            size--;
+            if (isEmptySection(section)) {
+                sections[sectionIndex] = null;
+            }
+            return true;
+        }
+
+        @Nullable
+        private BlockPos peek() {
+            int sectionIndex = cursorSection == NO_CURSOR ? sections.length - 1 : cursorSection;
+            int from = cursorSection == NO_CURSOR ? SECTION_SIZE - 1 : cursorIndex;
+            for (; sectionIndex >= 0; sectionIndex--, from = SECTION_SIZE - 1) {
+                long[] section = sections[sectionIndex];
+                if (section != null) {
+                    int index = previousSetBit(section, from);
+                    if (index != -1) {
+                        cursorSection = sectionIndex;
+                        cursorIndex = index;
+                        return new BlockPos(SectionPos.sectionToBlockCoord(ChunkPos.getX(chunkPos), index & 15),
+                              SectionPos.sectionToBlockCoord(minSectionY + sectionIndex, index >> 8),
+                              SectionPos.sectionToBlockCoord(ChunkPos.getZ(chunkPos), (index >> 4) & 15));
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return Index into {@link #sections} for the given section y, growing the array if needed.
+         */
+        private int ensureSection(int sectionY) {
+            if (sections.length == 0) {
+                sections = new long[1][];
+                minSectionY = sectionY;
+            } else if (sectionY < minSectionY) {
+                int grow = minSectionY - sectionY;
+                long[][] newSections = new long[sections.length + grow][];
+                System.arraycopy(sections, 0, newSections, grow, sections.length);
+                sections = newSections;
+                minSectionY = sectionY;
+            } else if (sectionY - minSectionY >= sections.length) {
+                sections = Arrays.copyOf(sections, sectionY - minSectionY + 1);
+            }
+            return sectionY - minSectionY;
+        }
+
+        private static int localIndex(int x, int y, int z) {
+            return (SectionPos.sectionRelative(y) << 8) | (SectionPos.sectionRelative(z) << 4) | SectionPos.sectionRelative(x);
+        }
+
+        private static boolean isEmptySection(long[] section) {
+            for (long word : section) {
+                if (word != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int previousSetBit(long[] words, int from) {
+            int wordIndex = from >> 6;
+            //Mask off the bits above from
+            long word = words[wordIndex] & (-1L >>> (63 - (from & 63)));
+            while (true) {
+                if (word != 0) {
+                    return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(word);
+                } else if (--wordIndex < 0) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+        }
+    }
+}
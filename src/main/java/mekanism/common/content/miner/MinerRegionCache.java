@@ -88,6 +88,19 @@ public class MinerRegionCache implements BlockGetter, CollisionGetter {
         }
     }
 
+    /**
+     * @return The cached chunk at the given chunk coordinates, or {@code null} if it is outside the region or wasn't loaded.
+     */
+    @Nullable
+    public ChunkAccess getLoadedChunk(int chunkX, int chunkZ) {
+        int i = chunkX - this.centerX;
+        int j = chunkZ - this.centerZ;
+        if (i >= 0 && i < this.chunks.length && j >= 0 && j < this.chunks[i].length) {
+            return this.chunks[i][j];
+        }
+        return null;
+    }
+
     private ChunkAccess getChunk(BlockPos pos) {
         return this.getChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
     }
@@ -0,0 +1,292 @@
+package mekanism.common.content.miner;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.text.IHasTextComponent.IHasEnumNameTextComponent;
+import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.block.BlockBounding;
+import mekanism.common.content.miner.MinerQueue.ChunkQueue;
+import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.util.BitStorage;
+import net.minecraft.util.ByIdMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.BedBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.DoublePlantBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BedPart;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.Palette;
+import net.minecraft.world.level.chunk.PalettedContainer;
+
+/**
+ * Searches the Digital Miner's volume one chunk section at a time. The block state palette of each section is checked against the miner's filters before looking at any
+ * positions, so that sections without any blocks the miner wants are skipped entirely, and positions in the remaining sections are checked by their palette id.
+ * <p>
+ * The volume is split up by chunk, and the chunks are searched in parallel on the {@link MinerSearchExecutor shared search executor}.
+ */
+public class MinerSearch {
+
+    /**
+     * Largest palette we resolve all the ids of up front, larger palettes are the global palette which we just look up the states of directly.
+     */
+    private static final int MAX_RESOLVED_PALETTE_SIZE = 256;
+    private static final byte UNRESOLVED = 0;
+    private static final byte MATCHES = 1;
+    private static final byte DOES_NOT_MATCH = 2;
+
+    private final TileEntityDigitalMiner tile;
+    private final MinerQueue oresToMine = new MinerQueue();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicInteger remainingChunks = new AtomicInteger();
+    private MinerRegionCache chunkCache;
+    private long[] chunks = new long[0];
+    private BlockPos startPos = BlockPos.ZERO;
+    private int diameter;
+    private int maxY;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
+
+    public MinerSearch(TileEntityDigitalMiner tile) {
+        this.tile = tile;
+    }
+
+    public void setChunkCache(MinerRegionCache cache) {
+        this.chunkCache = cache;
+    }
+
+    /**
+     * @return The number of blocks found so far.
+     */
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * Stops the search as soon as possible, without updating the miner with what was found.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public void start() {
+        state = State.SEARCHING;
+        if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
+            state = State.FINISHED;
+            return;
+        }
+        startPos = tile.getStartingPos();
+        diameter = tile.getDiameter();
+        maxY = startPos.getY() + tile.getTotalSize() / (diameter * diameter) - 1;
+        int minChunkX = SectionPos.blockToSectionCoord(startPos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(startPos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(startPos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(startPos.getZ() + diameter - 1);
+        chunks = new long[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)];
+        int index = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks[index++] = ChunkPos.asLong(chunkX, chunkZ);
+            }
+        }
+        remainingChunks.set(chunks.length);
+        //Only queue as many chunks as there are threads to search them, and queue the next chunk when one finishes. This way the executor's queue stays small,
+        // and searches from different miners are interleaved rather than waiting for all the chunks of the miners that started before them
+        for (int i = 0, parallelism = Math.min(MinerSearchExecutor.getParallelism(), chunks.length); i < parallelism; i++) {
+            submitNextChunk();
+        }
+    }
+
+    private void submitNextChunk() {
+        int index = nextChunk.getAndIncrement();
+        if (index < chunks.length) {
+            MinerSearchExecutor.execute(() -> {
+                try {
+                    if (!cancelled && !tile.isRemoved()) {
+                        searchChunk(chunks[index]);
+                    }
+                } catch (Exception e) {
+                    Mekanism.logger.error("Error searching chunk {} for Digital Miner at {}", new ChunkPos(chunks[index]), tile.getBlockPos(), e);
+                } finally {
+                    if (remainingChunks.decrementAndGet() == 0) {
+                        finish();
+                    } else {
+                        submitNextChunk();
+                    }
+                }
+            });
+        }
+    }
+
+    private void finish() {
+        if (cancelled || tile.isRemoved()) {
+            return;//no point checking as we got cancelled
+        }
+        state = State.FINISHED;
+        chunkCache = null;
+        if (tile.search == this) {
+            //Only update search if we are still valid and didn't get replaced due to a reset call
+            tile.updateFromSearch(oresToMine, found.get());
+        }
+    }
+
+    private void searchChunk(long chunkPos) {
+        ChunkAccess chunk = chunkCache.getLoadedChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+        if (chunk == null) {
+            //Chunk wasn't loaded, so we have nothing to search
+            return;
+        }
+        //Note: We cache the accepted states per chunk so that we don't have to synchronize the lookups between threads
+        Reference2BooleanMap<BlockState> acceptedStates = new Reference2BooleanOpenHashMap<>();
+        ChunkQueue chunkToMine = new ChunkQueue(chunkPos);
+        for (int sectionY = SectionPos.blockToSectionCoord(startPos.getY()); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+            if (cancelled) {
+                return;
+            }
+            int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+            if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                searchSection(chunk.getSection(sectionIndex), SectionPos.of(chunk.getPos(), sectionY), acceptedStates, chunkToMine);
+            }
+        }
+        if (!chunkToMine.isEmpty()) {
+            synchronized (oresToMine) {
+                oresToMine.addChunk(chunkToMine);
+            }
+            found.addAndGet(chunkToMine.size());
+        }
+    }
+
+    private void searchSection(LevelChunkSection section, SectionPos sectionPos, Reference2BooleanMap<BlockState> acceptedStates, ChunkQueue chunkToMine) {
+        PalettedContainer<BlockState> states = section.getStates();
+        if (section.hasOnlyAir() || !states.maybeHas(state -> canMine(state, acceptedStates))) {
+            //None of the states in this section are ones we want to mine, so we can skip checking each position
+            return;
+        }
+        //Note: We grab the data once as it is replaced if the palette needs to be resized
+        PalettedContainer.Data<BlockState> data = states.data;
+        Palette<BlockState> palette = data.palette();
+        BitStorage storage = data.storage();
+        //Resolve whether we want to mine the state for each id in the palette, as long as the palette isn't the global one
+        byte[] paletteMatches = palette.getSize() <= MAX_RESOLVED_PALETTE_SIZE ? new byte[palette.getSize()] : null;
+        int minX = Math.max(startPos.getX(), sectionPos.minBlockX());
+        int minY = Math.max(startPos.getY(), sectionPos.minBlockY());
+        int minZ = Math.max(startPos.getZ(), sectionPos.minBlockZ());
+        int sectionMaxX = Math.min(startPos.getX() + diameter - 1, sectionPos.maxBlockX());
+        int sectionMaxY = Math.min(maxY, sectionPos.maxBlockY());
+        int sectionMaxZ = Math.min(startPos.getZ() + diameter - 1, sectionPos.maxBlockZ());
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        BlockPos minerPos = tile.getBlockPos();
+        for (int y = minY; y <= sectionMaxY; y++) {
+            for (int z = minZ; z <= sectionMaxZ; z++) {
+                for (int x = minX; x <= sectionMaxX; x++) {
+                    //Equivalent to the index PalettedContainer.Strategy.SECTION_STATES uses
+                    int id = storage.get(((y & 15) << 4 | (z & 15)) << 4 | (x & 15));
+                    BlockState state;
+                    if (paletteMatches == null) {
+                        state = palette.valueFor(id);
+                        if (!canMine(state, acceptedStates)) {
+                            continue;
+                        }
+                    } else {
+                        byte match = paletteMatches[id];
+                        if (match == UNRESOLVED) {
+                            paletteMatches[id] = match = canMine(palette.valueFor(id), acceptedStates) ? MATCHES : DOES_NOT_MATCH;
+                        }
+                        if (match == DOES_NOT_MATCH) {
+                            continue;
+                        }
+                        state = palette.valueFor(id);
+                    }
+                    testPos.set(x, y, z);
+                    //Note: We check the destroy speed using the region rather than the chunk so that blocks whose hardness depends on their surroundings can see
+                    // positions outside the chunk
+                    if (minerPos.equals(testPos) || state.getDestroySpeed(chunkCache, testPos) < 0) {
+                        //Skip the miner itself, and also skip any unbreakable blocks
+                        continue;
+                    }
+                    chunkToMine.add(x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the miner should mine blocks with the given state, ignoring any position specific checks.
+     */
+    private boolean canMine(BlockState state, Reference2BooleanMap<BlockState> acceptedStates) {
+        if (acceptedStates.containsKey(state)) {
+            return acceptedStates.getBoolean(state);
+        }
+        boolean accepted;
+        Block block = state.getBlock();
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || block instanceof BlockBounding) {
+            //Skip air, blacklisted blocks, special cased block states, and bounding blocks
+            accepted = false;
+        } else if (MekanismUtils.isLiquidBlock(block)) {
+            //Skip liquids
+            accepted = false;
+        } else if (tile.isReplaceTarget(block.asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            accepted = false;
+        } else {
+            //Ensure that the inverse mode is the opposite of the filter match
+            accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+        }
+        acceptedStates.put(state, accepted);
+        return accepted;
+    }
+
+    /**
+     * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
+     * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
+     * collecting any drops that happen from breaking the block.
+     */
+    private boolean shouldSkipState(BlockState state) {
+        if (state.getBlock() instanceof BedBlock) {
+            return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
+        } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
+            return state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER;
+        }
+        return false;
+    }
+
+    @NothingNullByDefault
+    public enum State implements IHasEnumNameTextComponent {
+        IDLE(MekanismLang.MINER_IDLE),
+        SEARCHING(MekanismLang.MINER_SEARCHING),
+        PAUSED(MekanismLang.MINER_PAUSED),
+        FINISHED(MekanismLang.MINER_READY);
+
+        public static final IntFunction<State> BY_ID = ByIdMap.continuous(State::ordinal, values(), ByIdMap.OutOfBoundsStrategy.WRAP);
+        public static final StreamCodec<ByteBuf, State> STREAM_CODEC = ByteBufCodecs.idMapper(BY_ID, State::ordinal);
+
+        private final ILangEntry langEntry;
+
+        State(ILangEntry langEntry) {
+            this.langEntry = langEntry;
+        }
+
+        @Override
+        public Component getTextComponent() {
+            return langEntry.translate();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package mekanism.common.content.miner;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Bounded pool of threads shared by all Digital Miners for searching for blocks to mine, so that starting a lot of miners at once doesn't spawn a thread for each of
+ * them. Threads are only kept alive while there are searches to run.
+ */
+public class MinerSearchExecutor {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadFactory THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "Digital Miner Search #" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchExecutor() {
+    }
+
+    /**
+     * @return The number of tasks that can be run at once.
+     */
+    public static int getParallelism() {
+        return getExecutor().getMaximumPoolSize();
+    }
+
+    public static void execute(Runnable task) {
+        getExecutor().execute(task);
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        int threads = MekanismConfig.general.minerSearchThreads.get();
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), THREAD_FACTORY);
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != threads) {
+            //The config changed, resize the pool. The core size can't be larger than the max size, so we have to update them in the correct order
+            if (threads > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            } else {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
+        }
+        return executor;
+    }
+}
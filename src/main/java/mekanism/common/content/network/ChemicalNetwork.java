@@ -25,6 +25,7 @@ import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
 import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +38,7 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
 
     public final IChemicalTank chemicalTank;
     private final List<IChemicalTank> chemicalTanks;
+    private final ChemicalHandlerTarget emitTarget = new ChemicalHandlerTarget();
     public Chemical lastChemical = MekanismAPI.EMPTY_CHEMICAL;
     private long prevTransferAmount;
 
@@ -165,21 +167,21 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
         IRadiationManager.INSTANCE.dumpRadiation(triggerTransmitter.getTileGlobalPos(), stack);
     }
 
-    private long tickEmit(@NotNull ChemicalStack stack) {
+    private long tickEmit(Holder<Chemical> chemical, long amount) {
         Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget target = null;
+        //Note: We reuse the same target each tick so that emitting doesn't have to allocate anything in the steady state
+        emitTarget.clear();
         for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
             for (IChemicalHandler handler : acceptors.values()) {
-                if (ChemicalUtil.canInsert(handler, stack)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new ChemicalHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(handler);
+                if (ChemicalUtil.canInsert(handler, chemical, amount)) {
+                    emitTarget.addHandler(handler);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        long sent = EmitUtils.sendToAcceptors(emitTarget, amount, chemical);
+        //Clear the target again so that we don't hold onto references of the handlers between ticks
+        emitTarget.clear();
+        return sent;
     }
 
     @Override
@@ -192,7 +194,7 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
         if (chemicalTank.isEmpty()) {
             prevTransferAmount = 0;
         } else {
-            prevTransferAmount = tickEmit(chemicalTank.getStack());
+            prevTransferAmount = tickEmit(chemicalTank.getType().getAsHolder(), chemicalTank.getStored());
             MekanismUtils.logMismatchedStackSize(chemicalTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
     }
@@ -1,5 +1,6 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -18,7 +19,9 @@ import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.AcceptorDemandCache;
 import mekanism.common.util.EmitUtils;
+import mekanism.common.util.WorldUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -33,6 +36,8 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
+    private final AcceptorDemandCache demandCache = new AcceptorDemandCache();
     private long prevTransferAmount = 0L;
 
     public EnergyNetwork(UUID networkID) {
@@ -107,20 +112,43 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private long tickEmit(long energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = null;
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
-            for (IStrictEnergyHandler acceptor : acceptors.values()) {
+        demandCache.tick();
+        //Note: We reuse the same target each tick so that emitting doesn't have to allocate anything in the steady state
+        emitTarget.clear();
+        for (Long2ObjectMap.Entry<Map<Direction, IStrictEnergyHandler>> entry : acceptorCache.getAcceptorEntrySet()) {
+            long acceptorPos = entry.getLongKey();
+            if (demandCache.isBackedOff(acceptorPos)) {
+                //Skip acceptors that were full recently rather than simulating inserting into them again
+                continue;
+            }
+            boolean hasDemand = false;
+            for (IStrictEnergyHandler acceptor : entry.getValue().values()) {
                 if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
+                    emitTarget.addHandler(acceptor);
+                    hasDemand = true;
                 }
             }
+            if (!hasDemand) {
+                demandCache.backOff(acceptorPos);
+            }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, ENERGY);
+        long sent = EmitUtils.sendToAcceptors(emitTarget, energyToSend, ENERGY);
+        //Clear the target again so that we don't hold onto references of the handlers between ticks
+        emitTarget.clear();
+        return sent;
+    }
+
+    @Override
+    public void acceptorChanged(UniversalCable transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        //The capability at the position changed, so we have no idea if it has demand anymore
+        demandCache.reset(WorldUtils.relativePos(transmitter.getWorldPositionLong(), side));
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        demandCache.clear();
     }
 
     @Override
@@ -33,6 +33,7 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     private final List<IExtendedFluidTank> fluidTanks;
     public final VariableCapacityFluidTank fluidTank;
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget();
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
@@ -151,19 +152,19 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
         Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = null;
+        //Note: We reuse the same target each tick so that emitting doesn't have to allocate anything in the steady state
+        emitTarget.clear();
         for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
             for (IFluidHandler acceptor : acceptors.values()) {
                 if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new FluidHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
+                    emitTarget.addHandler(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(emitTarget, fluidToSend.getAmount(), fluidToSend);
+        //Clear the target again so that we don't hold onto references of the handlers between ticks
+        emitTarget.clear();
+        return sent;
     }
 
     @Override
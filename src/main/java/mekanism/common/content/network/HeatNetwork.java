@@ -1,23 +1,26 @@
 package mekanism.common.content.network;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    private final HeatNetworkSolver solver = new HeatNetworkSolver(this);
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,22 +50,60 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
-        }
-        //After we updated the heat values of all the transmitters, we need to update the temperatures
-        // we do this after instead of when iterating initially so that if heat is transferred from one
-        // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
-            transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
-        }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmittersSize();
+        solver.tick();
+        heatLost = solver.getHeatLost();
+        heatTransferred = solver.getHeatTransferred();
+        meanTemp = solver.getMeanTemperature();
+    }
+
+    /**
+     * Called when the heat of one of this network's conductors is changed by something other than the network, so that the conductor gets woken up if it was asleep.
+     */
+    public void heatChanged(ThermodynamicConductor conductor) {
+        solver.wake(conductor);
+    }
+
+    /**
+     * Called when the sides a conductor is connected on change, so that the network recalculates how its conductors are connected.
+     */
+    public void connectionsChanged() {
+        solver.invalidate();
+    }
+
+    @Override
+    public void commit() {
+        super.commit();
+        solver.invalidate();
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        solver.invalidate();
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        solver.invalidate();
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        solver.invalidate();
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        solver.invalidate();
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        solver.invalidate();
+        return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
     @Override
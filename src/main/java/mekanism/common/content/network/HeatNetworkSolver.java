@@ -0,0 +1,361 @@
+package mekanism.common.content.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import mekanism.api.heat.HeatAPI;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.capabilities.heat.VariableHeatCapacitor;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+/**
+ * Simulates the heat transfers of the conductors in a {@link HeatNetwork}, with the same results as having each conductor simulate its own transfers.
+ * <p>
+ * The properties of the conductors and how they are connected to each other are packed into primitive arrays, with the connections between conductors stored as
+ * compressed sparse rows, so that a tick is a couple of tight loops instead of going through the capacitors and capabilities of each conductor. How much heat a
+ * conductor gives off only depends on its own temperature, so the transfers between conductors only need to be recalculated for conductors whose own temperature or a
+ * neighbouring conductor's temperature changed. Conductors that are within {@link HeatAPI#EPSILON} of equilibrium with their neighbours are left asleep until either
+ * they or a neighbour change temperature, or they receive heat from outside the network.
+ */
+class HeatNetworkSolver {
+
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final HeatNetwork network;
+    private boolean valid;
+
+    private ThermodynamicConductor[] conductors = new ThermodynamicConductor[0];
+    private final Reference2IntOpenHashMap<ThermodynamicConductor> indices = new Reference2IntOpenHashMap<>();
+    private double[] capacity;
+    private double[] inverseConduction;
+    private double[] environmentInverse;
+    //Ambient temperature on each side of each conductor, indexed by conductor * SIDES + side
+    private double[] ambient;
+    private double[] temperature;
+    //The heat a conductor gives off to conductors and the environment is temperature * selfCoefficient - selfOffset
+    private double[] selfCoefficient;
+    private double[] selfOffset;
+
+    //Conductors each conductor transfers heat to
+    private int[] outStart;
+    private int[] outTarget;
+    private double[] outAmbient;
+    private double[] outInverse;
+    //Conductors each conductor receives heat from, and how much heat it receives per degree of the source's temperature above ambient
+    private int[] inStart;
+    private int[] inSource;
+    private double[] inAmbient;
+    private double[] inCoefficient;
+    //Handlers outside the network that each conductor transfers heat to
+    private int[] externalStart;
+    private IHeatHandler[] externalSink;
+    private int[] externalSide;
+    private int[] externalNodes;
+
+    private double[] internalHeat;
+    private double[] externalHeat;
+    private double[] environmentTransfer;
+    private double[] adjacentTransfer;
+    private double environmentTransferTotal;
+    private double adjacentTransferTotal;
+    private double temperatureTotal;
+
+    private int[] queued;
+    private int tick;
+    private final IntArrayList changed = new IntArrayList();
+    private final IntArrayList received = new IntArrayList();
+    private final IntArrayList unbalanced = new IntArrayList();
+    private final IntArrayList recalculate = new IntArrayList();
+    private final IntArrayList update = new IntArrayList();
+    private boolean[] changedFlag;
+    private boolean[] receivedFlag;
+
+    private double heatLost;
+    private double heatTransferred;
+
+    HeatNetworkSolver(HeatNetwork network) {
+        this.network = network;
+    }
+
+    /**
+     * Marks the solver as needing to rebuild its arrays before the next tick, for when conductors or the connections between them or to acceptors have changed.
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Wakes up the given conductor, for when its heat was changed by something other than this solver.
+     */
+    void wake(ThermodynamicConductor conductor) {
+        if (valid) {
+            int index = indices.getInt(conductor);
+            if (index != -1 && !receivedFlag[index]) {
+                receivedFlag[index] = true;
+                received.add(index);
+            }
+        }
+    }
+
+    double getHeatLost() {
+        return heatLost;
+    }
+
+    double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    double getMeanTemperature() {
+        return conductors.length == 0 ? HeatAPI.AMBIENT_TEMP : temperatureTotal / conductors.length;
+    }
+
+    void tick() {
+        if (!valid) {
+            rebuild(network.getTransmitters());
+            valid = true;
+        }
+        tick++;
+        //Conductors whose temperature changed give off a different amount of heat, so they and the conductors they give heat to need to be recalculated
+        recalculate.clear();
+        for (int i = 0, size = changed.size(); i < size; i++) {
+            int node = changed.getInt(i);
+            changedFlag[node] = false;
+            queue(recalculate, node);
+            for (int edge = outStart[node], end = outStart[node + 1]; edge < end; edge++) {
+                queue(recalculate, outTarget[edge]);
+            }
+        }
+        changed.clear();
+        for (int i = 0, size = recalculate.size(); i < size; i++) {
+            int node = recalculate.getInt(i);
+            double heat = selfOffset[node] - temperature[node] * selfCoefficient[node];
+            for (int edge = inStart[node], end = inStart[node + 1]; edge < end; edge++) {
+                heat += (temperature[inSource[edge]] - inAmbient[edge]) * inCoefficient[edge];
+            }
+            internalHeat[node] = heat;
+        }
+        //Heat given to handlers outside the network depends on the handler, so always has to be calculated
+        double externalTransfer = 0;
+        for (int node : externalNodes) {
+            double heat = 0;
+            for (int edge = externalStart[node], end = externalStart[node + 1]; edge < end; edge++) {
+                IHeatHandler sink = externalSink[edge];
+                double tempToTransfer = (temperature[node] - ambient[node * SIDES + externalSide[edge]]) / (sink.getTotalInverseConduction() + inverseConduction[node]);
+                double heatToTransfer = tempToTransfer * capacity[node];
+                heat -= heatToTransfer;
+                //Note: Our sinks in mek are "lazy" but they will update the next tick if needed
+                sink.handleHeat(heatToTransfer);
+                externalTransfer += tempToTransfer;
+            }
+            externalHeat[node] = heat;
+        }
+        //Apply the heat to the conductors that were recalculated, that transfer heat outside the network, that received heat from outside the network, or that are
+        // not in equilibrium with their neighbours. Any other conductor is asleep, as the heat it would be given is within epsilon of zero
+        update.clear();
+        tick++;
+        for (int i = 0, size = recalculate.size(); i < size; i++) {
+            queue(update, recalculate.getInt(i));
+        }
+        for (int node : externalNodes) {
+            queue(update, node);
+        }
+        for (int i = 0, size = received.size(); i < size; i++) {
+            int node = received.getInt(i);
+            receivedFlag[node] = false;
+            queue(update, node);
+        }
+        received.clear();
+        for (int i = 0, size = unbalanced.size(); i < size; i++) {
+            queue(update, unbalanced.getInt(i));
+        }
+        unbalanced.clear();
+        for (int i = 0, size = update.size(); i < size; i++) {
+            int node = update.getInt(i);
+            VariableHeatCapacitor buffer = conductors[node].buffer;
+            buffer.handleHeat(internalHeat[node] + externalHeat[node]);
+            buffer.update();
+            double newTemperature = buffer.getTemperature();
+            if (newTemperature != temperature[node]) {
+                temperatureTotal += newTemperature - temperature[node];
+                temperature[node] = newTemperature;
+                updateTransferStatistics(node);
+                if (!changedFlag[node]) {
+                    changedFlag[node] = true;
+                    changed.add(node);
+                }
+            }
+            if (Math.abs(internalHeat[node]) > HeatAPI.EPSILON) {
+                unbalanced.add(node);
+            }
+        }
+        heatLost = environmentTransferTotal;
+        heatTransferred = adjacentTransferTotal + externalTransfer;
+    }
+
+    private void queue(IntArrayList list, int node) {
+        if (queued[node] != tick) {
+            queued[node] = tick;
+            list.add(node);
+        }
+    }
+
+    private void updateTransferStatistics(int node) {
+        double nodeTemperature = temperature[node];
+        double environment = 0;
+        for (int side = 0; side < SIDES; side++) {
+            double tempToTransfer = (nodeTemperature - ambient[node * SIDES + side]) / environmentInverse[node];
+            if (tempToTransfer > 0) {
+                //Only count it towards environmental loss if it is hotter than the ambient temperature
+                environment += tempToTransfer;
+            }
+        }
+        double adjacent = 0;
+        for (int edge = outStart[node], end = outStart[node + 1]; edge < end; edge++) {
+            double tempToTransfer = (nodeTemperature - outAmbient[edge]) * outInverse[edge];
+            if (tempToTransfer <= 0) {
+                //Heat transmitter to heat transmitter, only counts as "adjacent transfer" if it is cooling
+                adjacent += tempToTransfer;
+            }
+        }
+        environmentTransferTotal += environment - environmentTransfer[node];
+        environmentTransfer[node] = environment;
+        adjacentTransferTotal += adjacent - adjacentTransfer[node];
+        adjacentTransfer[node] = adjacent;
+    }
+
+    private void rebuild(Collection<ThermodynamicConductor> transmitters) {
+        int count = transmitters.size();
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        indices.clear();
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < count; i++) {
+            indices.put(conductors[i], i);
+        }
+        capacity = new double[count];
+        inverseConduction = new double[count];
+        environmentInverse = new double[count];
+        ambient = new double[count * SIDES];
+        temperature = new double[count];
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            VariableHeatCapacitor buffer = conductor.buffer;
+            capacity[i] = buffer.getHeatCapacity();
+            inverseConduction[i] = buffer.getInverseConduction();
+            environmentInverse[i] = HeatAPI.AIR_INVERSE_COEFFICIENT + buffer.getInverseInsulation() + inverseConduction[i];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                ambient[i * SIDES + side.ordinal()] = conductor.getAmbientTemperature(side);
+            }
+            temperature[i] = buffer.getTemperature();
+        }
+
+        //Find what each conductor is connected to
+        outStart = new int[count + 1];
+        externalStart = new int[count + 1];
+        IntArrayList targets = new IntArrayList();
+        IntArrayList targetSides = new IntArrayList();
+        List<IHeatHandler> sinks = new ArrayList<>();
+        IntArrayList sinkSides = new IntArrayList();
+        IntArrayList nodesWithSinks = new IntArrayList();
+        int[] inCount = new int[count];
+        for (int i = 0; i < count; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            byte connections = conductor.getAllCurrentConnections();
+            BlockPos pos = conductor.getBlockPos();
+            int sinksBefore = sinks.size();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (Transmitter.connectionMapContainsSide(connections, side)) {
+                    IHeatHandler sink = conductor.getAcceptorCache().getConnectedAcceptor(side);
+                    if (sink != null) {
+                        ThermodynamicConductor adjacent = network.getTransmitter(pos.relative(side));
+                        int target = adjacent == null ? -1 : indices.getInt(adjacent);
+                        if (target == -1) {
+                            sinks.add(sink);
+                            sinkSides.add(side.ordinal());
+                        } else {
+                            targets.add(target);
+                            targetSides.add(side.ordinal());
+                            inCount[target]++;
+                        }
+                    }
+                }
+            }
+            outStart[i + 1] = targets.size();
+            externalStart[i + 1] = sinks.size();
+            if (sinks.size() > sinksBefore) {
+                nodesWithSinks.add(i);
+            }
+        }
+        outTarget = targets.toIntArray();
+        externalSink = sinks.toArray(new IHeatHandler[0]);
+        externalSide = sinkSides.toIntArray();
+        externalNodes = nodesWithSinks.toIntArray();
+
+        //Precalculate the coefficients of each transfer between conductors, and index them by the conductor receiving the heat as well
+        int edges = outTarget.length;
+        outAmbient = new double[edges];
+        outInverse = new double[edges];
+        inStart = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            inStart[i + 1] = inStart[i] + inCount[i];
+        }
+        inSource = new int[edges];
+        inAmbient = new double[edges];
+        inCoefficient = new double[edges];
+        int[] inNext = Arrays.copyOf(inStart, count);
+        selfCoefficient = new double[count];
+        selfOffset = new double[count];
+        for (int i = 0; i < count; i++) {
+            double environmentCoefficient = SIDES / environmentInverse[i];
+            double ambientTotal = 0;
+            for (int side = 0; side < SIDES; side++) {
+                ambientTotal += ambient[i * SIDES + side];
+            }
+            double coefficient = environmentCoefficient;
+            double offset = ambientTotal / environmentInverse[i];
+            for (int edge = outStart[i], end = outStart[i + 1]; edge < end; edge++) {
+                int target = outTarget[edge];
+                double sideAmbient = ambient[i * SIDES + targetSides.getInt(edge)];
+                double inverse = 1 / (inverseConduction[target] + inverseConduction[i]);
+                outAmbient[edge] = sideAmbient;
+                outInverse[edge] = inverse;
+                coefficient += inverse;
+                offset += sideAmbient * inverse;
+                int inEdge = inNext[target]++;
+                inSource[inEdge] = i;
+                inAmbient[inEdge] = sideAmbient;
+                inCoefficient[inEdge] = capacity[i] * inverse;
+            }
+            selfCoefficient[i] = coefficient * capacity[i];
+            selfOffset[i] = offset * capacity[i];
+        }
+
+        internalHeat = new double[count];
+        externalHeat = new double[count];
+        environmentTransfer = new double[count];
+        adjacentTransfer = new double[count];
+        environmentTransferTotal = 0;
+        adjacentTransferTotal = 0;
+        temperatureTotal = 0;
+        queued = new int[count];
+        tick = 0;
+        changedFlag = new boolean[count];
+        receivedFlag = new boolean[count];
+        changed.clear();
+        received.clear();
+        unbalanced.clear();
+        //Wake up everything, and make sure any heat conductors were given since the last tick gets applied
+        for (int i = 0; i < count; i++) {
+            temperatureTotal += temperature[i];
+            updateTransferStatistics(i);
+            changedFlag[i] = true;
+            changed.add(i);
+        }
+    }
+}
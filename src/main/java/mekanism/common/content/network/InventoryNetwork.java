@@ -1,5 +1,7 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -16,7 +18,9 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterTransitSync;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
@@ -26,13 +30,20 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    private final PathfinderCache pathfinderCache = new PathfinderCache();
+    private final TransporterTransitSync transitSync = new TransporterTransitSync();
+    @Nullable
+    private Pathfinder.Scratch pathfinderScratch;
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -55,7 +66,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                 for (Map.Entry<Direction, IItemHandler> acceptorEntry : entry.getValue().entrySet()) {
                     IItemHandler handler = acceptorEntry.getValue();
                     Direction side = acceptorEntry.getKey();
-                    PathfinderCache.CachedPath cachedPath = PathfinderCache.getSingleCache(start, blockPos, side);
+                    PathfinderCache.CachedPath cachedPath = pathfinderCache.getSingleCache(start.getBlockPos(), blockPos, side);
                     if (cachedPath != null && !TransporterPathfinder.checkPath(this, cachedPath.path(), stack)) {
                         continue;//invalid path, no need to simulate
                     }
@@ -97,18 +108,60 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    public PathfinderCache getPathfinderCache() {
+        return pathfinderCache;
+    }
+
+    /**
+     * Gets the pooled pathfinding state for this network, or a fresh one if the pooled one is currently in use by another search.
+     */
+    public Pathfinder.Scratch acquirePathfinderScratch() {
+        Pathfinder.Scratch scratch = pathfinderScratch;
+        if (scratch == null) {
+            return new Pathfinder.Scratch();
+        }
+        pathfinderScratch = null;
+        return scratch;
+    }
+
+    public void releasePathfinderScratch(Pathfinder.Scratch scratch) {
+        scratch.clear();
+        pathfinderScratch = scratch;
+    }
+
+    /**
+     * Queues the changes to the stacks in one of this network's transporters to be sent to the players tracking it at the end of the tick.
+     *
+     * @see TransporterTransitSync#queue(ServerLevel, long, IntSet, Int2ObjectMap)
+     */
+    public void queueTransitSync(ServerLevel level, long pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) {
+        transitSync.queue(level, pos, deletes, updates);
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        // forget the cached routes, as they may now be able to take a shorter path through the added transmitter
+        pathfinderCache.onTransporterAdded();
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        pathfinderCache.onAcceptorChanged(transmitter.getBlockPos().asLong(), side);
+    }
+
     @Override
-    public void commit() {
-        super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        pathfinderCache.adopt(net.pathfinderCache);
+        return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
     @Override
     public void deregister() {
         super.deregister();
-        // update the cache when the network has been removed (when transmitters are removed)
-        PathfinderCache.onChanged(this);
+        // clear the cache when the network has been removed (when transmitters are removed)
+        pathfinderCache.clear();
     }
 
     @Override
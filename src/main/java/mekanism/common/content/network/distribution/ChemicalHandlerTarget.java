@@ -1,12 +1,13 @@
 package mekanism.common.content.network.distribution;
 
 import mekanism.api.Action;
-import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.SortedTarget;
+import net.minecraft.core.Holder;
 
-public class ChemicalHandlerTarget extends Target<IChemicalHandler, ChemicalStack> {
+public class ChemicalHandlerTarget extends SortedTarget<IChemicalHandler, Holder<Chemical>> {
 
     public ChemicalHandlerTarget() {
     }
@@ -16,12 +17,12 @@ public class ChemicalHandlerTarget extends Target<IChemicalHandler, ChemicalStac
     }
 
     @Override
-    protected void acceptAmount(IChemicalHandler handler, SplitInfo splitInfo, ChemicalStack resource, long amount) {
-        splitInfo.send(amount - handler.insertChemical(resource.copyWithAmount(amount), Action.EXECUTE).getAmount());
+    protected void acceptAmount(IChemicalHandler handler, SplitInfo splitInfo, Holder<Chemical> resource, long amount) {
+        splitInfo.send(amount - handler.insertChemical(resource, amount, Action.EXECUTE));
     }
 
     @Override
-    protected long simulate(IChemicalHandler handler, ChemicalStack resource, long amount) {
-        return resource.getAmount() - handler.insertChemical(resource.copyWithAmount(amount), Action.SIMULATE).getAmount();
+    protected long simulate(IChemicalHandler handler, Holder<Chemical> resource, long amount) {
+        return amount - handler.insertChemical(resource, amount, Action.SIMULATE);
     }
-}
\ No newline at end of file
+}
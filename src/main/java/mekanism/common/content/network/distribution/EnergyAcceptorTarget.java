@@ -1,20 +1,15 @@
 package mekanism.common.content.network.distribution;
 
-import java.util.Collection;
 import mekanism.api.Action;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.SortedTarget;
 
-public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, Void> {
+public class EnergyAcceptorTarget extends SortedTarget<IStrictEnergyHandler, Void> {
 
     public EnergyAcceptorTarget() {
     }
 
-    public EnergyAcceptorTarget(Collection<IStrictEnergyHandler> allHandlers) {
-        super(allHandlers);
-    }
-
     public EnergyAcceptorTarget(int expectedSize) {
         super(expectedSize);
     }
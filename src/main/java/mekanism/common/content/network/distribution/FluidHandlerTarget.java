@@ -1,23 +1,18 @@
 package mekanism.common.content.network.distribution;
 
-import java.util.Collection;
 import mekanism.api.math.MathUtils;
 import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.SortedTarget;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, @NotNull FluidStack> {
+public class FluidHandlerTarget extends SortedTarget<IFluidHandler, @NotNull FluidStack> {
 
     public FluidHandlerTarget() {
     }
 
-    public FluidHandlerTarget(Collection<IFluidHandler> allHandlers) {
-        super(allHandlers);
-    }
-
     public FluidHandlerTarget(int expectedSize) {
         super(expectedSize);
     }
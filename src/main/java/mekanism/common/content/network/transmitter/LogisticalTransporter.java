@@ -5,7 +5,7 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.attribute.Attribute;
-import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.upgrade.transmitter.LogisticalTransporterUpgradeData;
@@ -47,7 +47,10 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
         setColor(TransporterUtils.increment(getColor()));
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        InventoryNetwork network = getTransmitterNetwork();
+        if (network != null) {
+            network.getPathfinderCache().invalidate(getBlockPos().asLong());
+        }
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.displayClientMessage(MekanismLang.TOGGLE_COLOR.translateColored(EnumColor.GRAY, color == null ? MekanismLang.NONE.translateColored(EnumColor.WHITE) : color.getColoredName()), true);
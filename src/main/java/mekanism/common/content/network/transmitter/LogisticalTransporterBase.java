@@ -28,7 +28,6 @@ import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.lib.transmitter.acceptor.AbstractAcceptorCache;
 import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
 import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.transmitter.PacketTransporterBatch;
 import mekanism.common.network.to_client.transmitter.PacketTransporterSync;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -288,9 +287,8 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                 }
 
                 if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                    //Notify clients, so that we send the information before we start clearing our lists
-                    //Note: We have to copy needsSync so that it still has values when we clear the pending sync packets
-                    PacketUtils.sendToAllTracking(PacketTransporterBatch.create(pos, deletes, new Int2ObjectOpenHashMap<>(needsSync)), getTransmitterTile());
+                    //Queue the changes to be sent to clients at the end of the tick, before we start clearing our lists
+                    network.queueTransitSync((ServerLevel) getLevel(), pos, deletes, needsSync);
                     // Now remove any entries from transit that have been deleted
                     OfInt ofInt = deletes.iterator();
                     while (ofInt.hasNext()) {
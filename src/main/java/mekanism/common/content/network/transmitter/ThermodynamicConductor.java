@@ -150,10 +150,40 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
                 clientTemperature = buffer.getTemperature();
                 getTransmitterTile().sendUpdatePacket();
             }
+            if (hasTransmitterNetwork()) {
+                getTransmitterNetwork().heatChanged(this);
+            }
         }
         getTransmitterTile().setChanged();
     }
 
+    @Override
+    public void handleHeat(int capacitor, double transfer, @Nullable Direction side) {
+        ITileHeatHandler.super.handleHeat(capacitor, transfer, side);
+        heatReceived();
+    }
+
+    @Override
+    public void handleHeat(double transfer, @Nullable Direction side) {
+        ITileHeatHandler.super.handleHeat(transfer, side);
+        heatReceived();
+    }
+
+    private void heatReceived() {
+        if (!isRemote() && hasTransmitterNetwork()) {
+            //Make sure the network applies the heat even if this conductor is asleep
+            getTransmitterNetwork().heatChanged(this);
+        }
+    }
+
+    @Override
+    protected void onConnectionsChanged() {
+        super.onConnectionsChanged();
+        if (hasTransmitterNetwork()) {
+            getTransmitterNetwork().connectionsChanged();
+        }
+    }
+
     @Override
     public double getAmbientTemperature(@NotNull Direction side) {
         return ambientTemperature.getTemperature(side);
@@ -560,6 +560,7 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
                 recheckConnections(newlyEnabledTransmitters);
             }
             if (sendDesc) {
+                onConnectionsChanged();
                 getTransmitterTile().sendUpdatePacket();
             }
         }
@@ -574,6 +575,7 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
             boolean possibleAcceptor = getPossibleAcceptorConnection(side, false);
             if (possibleAcceptor != connectionMapContainsSide(acceptorCache.currentAcceptorConnections, side)) {
                 acceptorCache.currentAcceptorConnections = setConnectionBit(acceptorCache.currentAcceptorConnections, possibleAcceptor, side);
+                onConnectionsChanged();
                 getTransmitterTile().sendUpdatePacket();
             }
         }
@@ -600,11 +602,18 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
                 recheckConnection(side);
             }
             if (sendDesc) {
+                onConnectionsChanged();
                 getTransmitterTile().sendUpdatePacket();
             }
         }
     }
 
+    /**
+     * Called on the server when the sides this transmitter is connected on change.
+     */
+    protected void onConnectionsChanged() {
+    }
+
     /**
      * @param newlyEnabledTransmitters The transmitters that are now enabled and were not before.
      *
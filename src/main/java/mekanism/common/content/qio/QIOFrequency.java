@@ -35,6 +35,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
@@ -103,10 +104,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
     private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    /**
+     * Players viewing the items in this frequency, and the UUIDs of the item types each of them has been sent the full item data for.
+     */
+    private final Map<ServerPlayer, Set<UUID>> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
+    /** Number of ticks since we last sent changes to viewing clients, used to coalesce count only changes. */
+    private int ticksSinceViewerSync;
+    private long syncedCountCapacity;
+    private int syncedTypeCapacity;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
 
@@ -410,7 +418,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
+        //The player is sent the full data of all the items when they open the viewer
+        Set<UUID> knownTypes = new HashSet<>(itemDataMap.size());
+        for (QIOItemTypeData data : itemDataMap.values()) {
+            knownTypes.add(data.getItemUUID());
+        }
+        playersViewingItems.put(player, knownTypes);
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -480,7 +493,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //TODO - 1.20.4: Only perform every so often?
             SecurityFrequency security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
             if (security != null) {
-                for (ServerPlayer player : new HashSet<>(playersViewingItems)) {
+                for (ServerPlayer player : new HashSet<>(playersViewingItems.keySet())) {
                     if (!ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID()) && player.containerMenu instanceof QIOItemViewerContainer) {
                         player.closeContainer();
                         closeItemViewer(player);
@@ -489,24 +502,32 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
+        int syncInterval = MekanismConfig.general.qioCountSyncInterval.get();
+        if (ticksSinceViewerSync < syncInterval) {
+            ticksSinceViewerSync++;
+        }
+        if ((!updatedItems.isEmpty() || needsUpdate) && (ticksSinceViewerSync >= syncInterval || hasStructuralChanges())) {
+            //Only calculate the changed counts if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
+            Lazy<Map<UUID, HashedItem>> lazyChangedTypes = Lazy.of(() -> {
+                Map<UUID, HashedItem> changedTypes = new HashMap<>(updatedItems.size());
                 for (UUID uuid : updatedItems) {
                     HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
                     if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
+                        changedTypes.put(uuid, type);
                     }
                 }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
+                return changedTypes;
             });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+            boolean capacityChanged = syncedCountCapacity != totalCountCapacity || syncedTypeCapacity != totalTypeCapacity;
+            for (Iterator<Entry<ServerPlayer, Set<UUID>>> viewingIterator = playersViewingItems.entrySet().iterator(); viewingIterator.hasNext(); ) {
+                Entry<ServerPlayer, Set<UUID>> viewer = viewingIterator.next();
+                ServerPlayer player = viewer.getKey();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    PacketUpdateItemViewer packet = createViewerUpdate(lazyChangedTypes.get(), viewer.getValue(), capacityChanged);
+                    if (packet != null) {
+                        PacketDistributor.sendToPlayer(player, packet);
+                    }
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
@@ -514,6 +535,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
             updatedItems.clear();
             needsUpdate = false;
+            ticksSinceViewerSync = 0;
+            syncedCountCapacity = totalCountCapacity;
+            syncedTypeCapacity = totalTypeCapacity;
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
@@ -562,6 +586,62 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return changedData;
     }
 
+    /**
+     * @return {@code true} if there are changes that can't wait for the count sync interval, such as item types being added or removed, or the capacity changing.
+     */
+    private boolean hasStructuralChanges() {
+        if (syncedCountCapacity != totalCountCapacity || syncedTypeCapacity != totalTypeCapacity) {
+            return true;
+        }
+        for (UUID uuid : updatedItems) {
+            HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
+            if (type == null || !itemDataMap.containsKey(type)) {
+                //Item type was removed
+                return true;
+            }
+            for (Set<UUID> knownTypes : playersViewingItems.values()) {
+                if (!knownTypes.contains(uuid)) {
+                    //Item type was added
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the update packet for a specific viewer, only sending the full item data for types the viewer doesn't know about yet.
+     *
+     * @param changedTypes Item types that changed.
+     * @param knownTypes   UUIDs of the item types the viewer has the full item data for, updated to reflect the changes being sent.
+     *
+     * @return The packet, or {@code null} if there is nothing to send to this viewer.
+     */
+    @Nullable
+    private PacketUpdateItemViewer createViewerUpdate(Map<UUID, HashedItem> changedTypes, Set<UUID> knownTypes, boolean capacityChanged) {
+        Object2LongMap<UUIDAwareHashedItem> itemMap = new Object2LongOpenHashMap<>();
+        Object2LongMap<UUID> countMap = new Object2LongOpenHashMap<>();
+        for (Entry<UUID, HashedItem> entry : changedTypes.entrySet()) {
+            UUID uuid = entry.getKey();
+            QIOItemTypeData data = itemDataMap.get(entry.getValue());
+            long count = data == null ? 0 : data.count;
+            if (count == 0) {
+                //Only tell the client to remove the item if it knows about it, and forget it as the client will as well
+                if (knownTypes.remove(uuid)) {
+                    countMap.put(uuid, 0);
+                }
+            } else if (knownTypes.add(uuid)) {
+                itemMap.put(new UUIDAwareHashedItem(entry.getValue(), uuid), count);
+            } else {
+                countMap.put(uuid, count);
+            }
+        }
+        if (itemMap.isEmpty() && countMap.isEmpty() && !capacityChanged) {
+            return null;
+        }
+        return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, itemMap, countMap);
+    }
+
     @Override
     public void onRemove() {
         super.onRemove();
@@ -571,7 +651,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
-        for (ServerPlayer player : playersViewingItems) {
+        for (ServerPlayer player : playersViewingItems.keySet()) {
             Mekanism.packetHandler().killItemViewer(player);
         }
     }
@@ -0,0 +1,282 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuerySet;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Index of the items in a QIO Item Viewer, so that {@link SearchQueryParser search queries} can be evaluated by intersecting posting lists instead of checking the name,
+ * mod id, and tags of every stack. Only use on client-side.
+ * <p>
+ * Display names are indexed by the trigrams they contain, and mod ids and tags are indexed by their full value. As queries match any part of the name, mod id, or tag,
+ * name keys look up the candidates that contain every trigram of the key and then check the candidates, and mod id and tag keys check each distinct mod id or tag once
+ * rather than once per stack. Tooltips depend on the player and are not indexed, so tooltip keys are checked against the remaining candidates directly.
+ */
+public class QIOSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Reference2IntMap<IScrollableSlot> ids = new Reference2IntOpenHashMap<>();
+    private final Int2ObjectMap<IndexedSlot> slots = new Int2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<IntSet> nameGrams = new Long2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> modIds = new Object2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> tags = new Object2ObjectOpenHashMap<>();
+    private int nextId;
+
+    public QIOSearchIndex() {
+        ids.defaultReturnValue(-1);
+    }
+
+    public QIOSearchIndex(Collection<? extends IScrollableSlot> slots) {
+        this();
+        for (IScrollableSlot slot : slots) {
+            add(slot);
+        }
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public void clear() {
+        ids.clear();
+        slots.clear();
+        nameGrams.clear();
+        modIds.clear();
+        tags.clear();
+        nextId = 0;
+    }
+
+    public void add(IScrollableSlot slot) {
+        add(slot, slot.getDisplayName(), slot.getModID(), TagCache.getItemTags(slot.getInternalStack()));
+    }
+
+    @VisibleForTesting
+    void add(IScrollableSlot slot, String name, String modId, List<String> itemTags) {
+        if (ids.containsKey(slot)) {
+            return;
+        }
+        int id = nextId++;
+        ids.put(slot, id);
+        IndexedSlot indexed = new IndexedSlot(slot, name.toLowerCase(Locale.ROOT), modId.toLowerCase(Locale.ROOT), lowerCase(itemTags));
+        slots.put(id, indexed);
+        for (long gram : grams(indexed.name())) {
+            nameGrams.computeIfAbsent(gram, g -> new IntOpenHashSet()).add(id);
+        }
+        modIds.computeIfAbsent(indexed.modId(), m -> new IntOpenHashSet()).add(id);
+        for (String tag : indexed.tags()) {
+            tags.computeIfAbsent(tag, t -> new IntOpenHashSet()).add(id);
+        }
+    }
+
+    public void remove(IScrollableSlot slot) {
+        int id = ids.removeInt(slot);
+        if (id == -1) {
+            return;
+        }
+        IndexedSlot indexed = slots.remove(id);
+        for (long gram : grams(indexed.name())) {
+            removePosting(nameGrams.get(gram), id, () -> nameGrams.remove(gram));
+        }
+        removePosting(modIds.get(indexed.modId()), id, () -> modIds.remove(indexed.modId()));
+        for (String tag : indexed.tags()) {
+            removePosting(tags.get(tag), id, () -> tags.remove(tag));
+        }
+    }
+
+    private static void removePosting(@Nullable IntSet posting, int id, Runnable removeEmpty) {
+        if (posting != null && posting.remove(id) && posting.isEmpty()) {
+            removeEmpty.run();
+        }
+    }
+
+    /**
+     * Finds all the indexed slots that match the given query.
+     *
+     * @return The matching slots in no particular order.
+     */
+    public List<IScrollableSlot> search(@Nullable Level level, @Nullable Player player, ISearchQuery query) {
+        IntSet matches = evaluate(level, player, query);
+        List<IScrollableSlot> result = new ArrayList<>(matches == null ? slots.size() : matches.size());
+        if (matches == null) {
+            for (IndexedSlot indexed : slots.values()) {
+                result.add(indexed.slot());
+            }
+        } else {
+            for (IntIterator iterator = matches.iterator(); iterator.hasNext(); ) {
+                result.add(slots.get(iterator.nextInt()).slot());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The ids that match the query, or {@code null} if every slot matches.
+     */
+    @Nullable
+    private IntSet evaluate(@Nullable Level level, @Nullable Player player, ISearchQuery query) {
+        if (query instanceof SearchQuerySet querySet) {
+            if (querySet.getQueries().isEmpty()) {
+                //Empty query lists match all stacks
+                return null;
+            }
+            IntSet result = new IntOpenHashSet();
+            for (SearchQuery subQuery : querySet.getQueries()) {
+                IntSet subResult = evaluate(level, player, subQuery);
+                if (subResult == null) {
+                    return null;
+                }
+                result.addAll(subResult);
+            }
+            return result;
+        } else if (query instanceof SearchQuery searchQuery) {
+            IntSet candidates = null;
+            List<String> tooltipKeys = null;
+            for (Map.Entry<QueryType, List<String>> entry : searchQuery.getQueryMap().entrySet()) {
+                if (entry.getKey() == QueryType.TOOLTIP) {
+                    //Evaluate tooltips last so that we only have to check the stacks that match everything else
+                    tooltipKeys = entry.getValue();
+                    continue;
+                }
+                IntSet typeMatches = new IntOpenHashSet();
+                for (String key : entry.getValue()) {
+                    String lowerKey = key.toLowerCase(Locale.ROOT);
+                    switch (entry.getKey()) {
+                        case NAME -> matchName(lowerKey, typeMatches);
+                        case MOD_ID -> matchPostings(modIds, lowerKey, typeMatches);
+                        case TAG -> matchPostings(tags, lowerKey, typeMatches);
+                    }
+                }
+                candidates = candidates == null ? typeMatches : intersect(candidates, typeMatches);
+                if (candidates.isEmpty()) {
+                    return candidates;
+                }
+            }
+            if (tooltipKeys != null) {
+                candidates = matchTooltips(level, player, tooltipKeys, candidates);
+            }
+            return candidates;
+        } else if (query.isInvalid()) {
+            return new IntOpenHashSet();
+        }
+        //Unknown query implementation, fall back to testing each stack
+        IntSet result = new IntOpenHashSet();
+        for (Int2ObjectMap.Entry<IndexedSlot> entry : slots.int2ObjectEntrySet()) {
+            if (query.test(level, player, entry.getValue().slot().getInternalStack())) {
+                result.add(entry.getIntKey());
+            }
+        }
+        return result;
+    }
+
+    private void matchName(String key, IntSet result) {
+        if (key.length() < GRAM_LENGTH) {
+            //Too short to have any trigrams, just check all the names
+            for (Int2ObjectMap.Entry<IndexedSlot> entry : slots.int2ObjectEntrySet()) {
+                if (entry.getValue().name().contains(key)) {
+                    result.add(entry.getIntKey());
+                }
+            }
+            return;
+        }
+        LongSet keyGrams = grams(key);
+        //Start with the smallest posting list, so that we have to check as few candidates as possible
+        IntSet smallest = null;
+        for (long gram : keyGrams) {
+            IntSet posting = nameGrams.get(gram);
+            if (posting == null) {
+                //No names contain this part of the key
+                return;
+            } else if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        //Note: Containing all the trigrams doesn't mean the name contains the key, so we verify the candidates
+        for (IntIterator iterator = smallest.iterator(); iterator.hasNext(); ) {
+            int id = iterator.nextInt();
+            if (slots.get(id).name().contains(key)) {
+                result.add(id);
+            }
+        }
+    }
+
+    private static void matchPostings(Map<String, IntSet> postings, String key, IntSet result) {
+        for (Map.Entry<String, IntSet> entry : postings.entrySet()) {
+            if (entry.getKey().contains(key)) {
+                result.addAll(entry.getValue());
+            }
+        }
+    }
+
+    private IntSet matchTooltips(@Nullable Level level, @Nullable Player player, List<String> keys, @Nullable IntSet candidates) {
+        IntSet result = new IntOpenHashSet();
+        IntIterator iterator = candidates == null ? slots.keySet().iterator() : candidates.iterator();
+        while (iterator.hasNext()) {
+            int id = iterator.nextInt();
+            IScrollableSlot slot = slots.get(id).slot();
+            for (String key : keys) {
+                if (QueryType.TOOLTIP.matches(level, player, key, slot.getInternalStack())) {
+                    result.add(id);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static IntSet intersect(IntSet a, IntSet b) {
+        IntSet smaller = a.size() <= b.size() ? a : b;
+        IntSet larger = smaller == a ? b : a;
+        IntSet result = new IntOpenHashSet(smaller.size());
+        for (IntIterator iterator = smaller.iterator(); iterator.hasNext(); ) {
+            int id = iterator.nextInt();
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static LongSet grams(String text) {
+        LongSet grams = new LongOpenHashSet();
+        for (int i = 0, end = text.length() - GRAM_LENGTH; i <= end; i++) {
+            grams.add((long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static List<String> lowerCase(List<String> strings) {
+        List<String> lower = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            lower.add(string.toLowerCase(Locale.ROOT));
+        }
+        return lower;
+    }
+
+    private record IndexedSlot(IScrollableSlot slot, String name, String modId, List<String> tags) {
+    }
+}
@@ -1,47 +1,70 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
-import mekanism.common.content.network.InventoryNetwork;
-import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Route table for a single {@link mekanism.common.content.network.InventoryNetwork}. Routes are indexed by every position they pass through so that removing a
+ * transporter or changing an acceptor only invalidates the routes that actually involve it, and the table is bounded with least recently used routes being evicted
+ * first.
+ */
 public class PathfinderCache {
 
-    private PathfinderCache() {
+    private final Object2ObjectLinkedOpenHashMap<PathData, CachedPath> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    private final Long2ObjectMap<Set<PathData>> routesByPosition = new Long2ObjectOpenHashMap<>();
+    private long hits;
+    private long misses;
+
+    public CachedPath addCachedPath(BlockPos start, BlockPos destination, Pathfinder pathfinder) {
+        return addCachedPath(start, destination, pathfinder.getSide(), pathfinder.getPath(), pathfinder.getFinalScore());
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    public CachedPath addCachedPath(BlockPos start, BlockPos destination, Direction side, LongList path, double cost) {
+        CachedPath cachedPath = new CachedPath(path.toLongArray(), cost);
+        put(new PathData(start.asLong(), destination.asLong(), side), cachedPath);
+        evictExcess();
+        return cachedPath;
+    }
 
-    public static void onChanged(InventoryNetwork... networks) {
-        for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+    private void put(PathData data, CachedPath cachedPath) {
+        CachedPath previous = cachedPaths.putAndMoveToLast(data, cachedPath);
+        if (previous != null) {
+            unindex(data, previous);
+        }
+        for (long pos : cachedPath.path()) {
+            routesByPosition.computeIfAbsent(pos, p -> new ObjectOpenHashSet<>()).add(data);
         }
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
-        return cachedPath;
+    private void evictExcess() {
+        int maxSize = MekanismConfig.general.transporterRouteCacheSize.get();
+        while (cachedPaths.size() > maxSize) {
+            PathData eldest = cachedPaths.firstKey();
+            unindex(eldest, cachedPaths.removeFirst());
+        }
     }
 
     @Nullable
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+    public CachedPath getCache(BlockPos start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
+        if (!cachedPaths.isEmpty()) {
+            long startPos = start.asLong();
+            long endPos = end.asLong();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                CachedPath test = cachedPaths.getAndMoveToLast(new PathData(startPos, endPos, side));
                 if (test != null) {
                     if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
@@ -53,23 +76,104 @@ public class PathfinderCache {
     }
 
     @Nullable
-    public static CachedPath getSingleCache(LogisticalTransporterBase start, BlockPos end, Direction side) {
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
-            return pathMap.get(new PathData(startPos, end, side));
+    public CachedPath getSingleCache(BlockPos start, BlockPos end, Direction side) {
+        if (cachedPaths.isEmpty()) {
+            return null;
+        }
+        return cachedPaths.get(new PathData(start.asLong(), end.asLong(), side));
+    }
+
+    /**
+     * Invalidates all routes that pass through or end at the given position.
+     */
+    public void invalidate(long pos) {
+        Set<PathData> routes = routesByPosition.remove(pos);
+        if (routes != null) {
+            for (PathData data : routes) {
+                CachedPath removed = cachedPaths.remove(data);
+                if (removed != null) {
+                    unindex(data, removed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called when a transporter is added to the network. A new transporter can bridge two parts of the network, which shortens routes that don't pass anywhere near it,
+     * so this forgets all the routes. Transporters are added rarely compared to how often routes are looked up.
+     */
+    public void onTransporterAdded() {
+        clear();
+    }
+
+    /**
+     * Called when the acceptor on the given side of a transporter changed. Invalidates routes through the transporter and to the acceptor.
+     */
+    public void onAcceptorChanged(long transporterPos, Direction side) {
+        invalidate(transporterPos);
+        invalidate(WorldUtils.relativePos(transporterPos, side));
+    }
+
+    public void adopt(PathfinderCache other) {
+        for (Map.Entry<PathData, CachedPath> entry : other.cachedPaths.entrySet()) {
+            put(entry.getKey(), entry.getValue());
         }
-        return null;
+        hits += other.hits;
+        misses += other.misses;
+        other.clear();
+        evictExcess();
     }
 
-    public static void reset() {
+    public void clear() {
         cachedPaths.clear();
+        routesByPosition.clear();
+    }
+
+    private void unindex(PathData data, CachedPath path) {
+        for (long pos : path.path()) {
+            Set<PathData> routes = routesByPosition.get(pos);
+            if (routes != null && routes.remove(data) && routes.isEmpty()) {
+                routesByPosition.remove(pos);
+            }
+        }
+    }
+
+    public int size() {
+        return cachedPaths.size();
+    }
+
+    /**
+     * Marks that a cached route was found and is still usable.
+     */
+    void countHit() {
+        hits++;
     }
 
-    public record CachedPath(LongList path, double cost) {
+    /**
+     * Marks that no usable cached route was found, and one has to be searched for.
+     */
+    void countMiss() {
+        misses++;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @param path Positions from the destination to the start transporter.
+     */
+    public record CachedPath(long[] path, double cost) {
+
+        public LongList asList() {
+            return LongLists.unmodifiable(LongArrayList.wrap(path));
+        }
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    private record PathData(long startTransporter, long end, Direction endSide) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,284 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.content.transporter.TransporterManager.InventoryInfo;
+import mekanism.common.util.InventoryUtils;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the stacks that are in flight to a destination, and for each side of the destination that has been checked, how many items those stacks are expected
+ * to add to each slot of the handler on that side. This allows checking whether more items fit in the destination by only looking at each slot once, instead of having
+ * to simulate inserting every in-flight stack again for each check.
+ * <p>
+ * Stacks are only simulated when they are first checked against a side, and the reserved amounts are removed again when the stack stops being in flight. Stacks that
+ * did not completely fit are simulated again on each check, as the destination may have room for them by then. If the destination changes in a way that conflicts
+ * with the reserved amounts, the reservations for that side are rebuilt by simulating all the in-flight stacks again.
+ */
+public class ReservationLedger {
+
+    private final Set<TransporterStack> stacks = new ReferenceLinkedOpenHashSet<>();
+    private final Map<Direction, SideReservations> sides = new EnumMap<>(Direction.class);
+    private int rebuilds;
+
+    void add(TransporterStack stack) {
+        if (stacks.add(stack)) {
+            for (SideReservations reservations : sides.values()) {
+                reservations.pending.add(stack);
+            }
+        }
+    }
+
+    boolean remove(TransporterStack stack) {
+        if (stacks.remove(stack)) {
+            for (SideReservations reservations : sides.values()) {
+                reservations.remove(stack);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return stacks.isEmpty();
+    }
+
+    /**
+     * Adds the amounts reserved by the in-flight stacks to the given inventory info.
+     *
+     * @param side    Side of the destination that is being checked.
+     * @param handler Item handler the destination has on that side.
+     * @param info    Current contents of the handler, this will be updated to include the reserved amounts.
+     *
+     * @return {@code false} if one of the in-flight stacks does not fit, meaning there is no room for anything else.
+     */
+    boolean reserve(Direction side, IItemHandler handler, InventoryInfo info) {
+        SideReservations reservations = sides.get(side);
+        if (reservations == null || !reservations.isValid(handler, info)) {
+            if (reservations != null) {
+                rebuilds++;
+            }
+            reservations = new SideReservations(handler, info.slots);
+            reservations.pending.addAll(stacks);
+            sides.put(side, reservations);
+        } else {
+            reservations.retryOverflowing();
+            reservations.applyTo(info);
+        }
+        if (!reservations.pending.isEmpty()) {
+            info.effectiveLimits = reservations.foundLimits;
+            for (TransporterStack stack : reservations.pending) {
+                reservations.allocate(side, stack, info);
+            }
+            info.effectiveLimits = null;
+            reservations.pending.clear();
+        }
+        return reservations.blocking.isEmpty();
+    }
+
+    /**
+     * @return The number of stacks in flight to this destination.
+     */
+    public int getStackCount() {
+        return stacks.size();
+    }
+
+    /**
+     * @return How many times the reservations of a side had to be rebuilt because they no longer matched the destination.
+     */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    /**
+     * @return The reservations for the sides of the destination that have been checked.
+     */
+    public Map<Direction, SideReservations> getSides() {
+        return Collections.unmodifiableMap(sides);
+    }
+
+    public static class SideReservations {
+
+        private final IItemHandler handler;
+        private final int[] reserved;
+        private final ItemStack[] reservedTypes;
+        /**
+         * How many items each slot with reservations was known to be able to hold when the reservations were last made, either from the max stack size of the item or
+         * from a simulated insert.
+         */
+        private final int[] limits;
+        private final int[] previousSizes;
+        private final int[] foundLimits;
+        //Pairs of slot and amount that each in-flight stack reserved
+        private final Map<TransporterStack, int[]> allocations = new Reference2ObjectOpenHashMap<>();
+        private final ReferenceLinkedOpenHashSet<TransporterStack> pending = new ReferenceLinkedOpenHashSet<>();
+        //Stacks that did not completely fit, in the order they were simulated
+        private final Set<TransporterStack> overflowing = new ReferenceLinkedOpenHashSet<>();
+        private final Set<TransporterStack> blocking = new ReferenceOpenHashSet<>();
+        private boolean stale;
+
+        private SideReservations(IItemHandler handler, int slots) {
+            this.handler = handler;
+            this.reserved = new int[slots];
+            this.reservedTypes = new ItemStack[slots];
+            this.limits = new int[slots];
+            this.previousSizes = new int[slots];
+            this.foundLimits = new int[slots];
+        }
+
+        private boolean isValid(IItemHandler handler, InventoryInfo info) {
+            if (stale || this.handler != handler || reserved.length != info.slots) {
+                return false;
+            }
+            for (int slot = 0; slot < reserved.length; slot++) {
+                int amount = reserved[slot];
+                if (amount > 0) {
+                    int actual = info.stackSizes[slot];
+                    if (actual > 0 && !InventoryUtils.areItemsStackable(info.inventory[slot], reservedTypes[slot])) {
+                        //Something else got put in the slot
+                        return false;
+                    } else if (actual + amount > limits[slot]) {
+                        //The slot filled up in a way that our stacks won't fit anymore
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Releases what the stacks that did not completely fit reserved, and queues them to be simulated again before any stacks that have not been simulated yet, as
+         * the destination may have room for them now.
+         */
+        private void retryOverflowing() {
+            if (!overflowing.isEmpty()) {
+                TransporterStack[] toRetry = overflowing.toArray(new TransporterStack[0]);
+                overflowing.clear();
+                blocking.clear();
+                //Move them to the front in reverse, so that they end up in the order they were first simulated in
+                for (int i = toRetry.length - 1; i >= 0; i--) {
+                    release(toRetry[i]);
+                    pending.addAndMoveToFirst(toRetry[i]);
+                }
+            }
+        }
+
+        private void applyTo(InventoryInfo info) {
+            for (int slot = 0; slot < reserved.length; slot++) {
+                int amount = reserved[slot];
+                if (amount > 0) {
+                    info.stackSizes[slot] += amount;
+                    if (info.inventory[slot].isEmpty()) {
+                        info.inventory[slot] = reservedTypes[slot];
+                    }
+                }
+            }
+        }
+
+        private void allocate(Direction side, TransporterStack stack, InventoryInfo info) {
+            ItemStack itemStack = stack.itemStack;
+            if (!stack.getPathType().hasTarget() || itemStack.isEmpty()) {
+                return;
+            }
+            System.arraycopy(info.stackSizes, 0, previousSizes, 0, previousSizes.length);
+            int count = itemStack.getCount();
+            int leftOver = TransporterManager.simulateInsert(handler, info, itemStack, count, true);
+            //We start by simulating inserting the stack into the handler, regardless of if we are interacting with the same side of the target as the stack's path is
+            // taking. See TransporterManager#predictFlowing for more details
+            if (leftOver > 0) {
+                overflowing.add(stack);
+                if (leftOver < count || side == stack.getSideOfDest()) {
+                    //Failed to successfully insert this in-flight item; there's no room for anyone else
+                    blocking.add(stack);
+                }
+            }
+            int changed = 0;
+            for (int slot = 0; slot < previousSizes.length; slot++) {
+                if (info.stackSizes[slot] != previousSizes[slot]) {
+                    changed++;
+                }
+            }
+            if (changed == 0) {
+                return;
+            }
+            int[] allocation = new int[2 * changed];
+            int index = 0;
+            for (int slot = 0; slot < previousSizes.length; slot++) {
+                int amount = info.stackSizes[slot] - previousSizes[slot];
+                if (amount > 0) {
+                    reserved[slot] += amount;
+                    reservedTypes[slot] = itemStack;
+                    //Note: The latest simulation of a slot takes the items reserved before it into account, so it replaces the limit we knew of
+                    limits[slot] = foundLimits[slot];
+                    allocation[index++] = slot;
+                    allocation[index++] = amount;
+                } else if (amount < 0) {
+                    //The slot turned out to have a lower limit than our reservations assumed, rebuild them the next time they are checked
+                    stale = true;
+                }
+            }
+            allocations.put(stack, index == allocation.length ? allocation : Arrays.copyOf(allocation, index));
+        }
+
+        private void remove(TransporterStack stack) {
+            if (pending.remove(stack)) {
+                return;
+            }
+            overflowing.remove(stack);
+            blocking.remove(stack);
+            release(stack);
+        }
+
+        private void release(TransporterStack stack) {
+            int[] allocation = allocations.remove(stack);
+            if (allocation != null) {
+                for (int i = 0; i < allocation.length; i += 2) {
+                    int slot = allocation[i];
+                    reserved[slot] -= allocation[i + 1];
+                    if (reserved[slot] == 0) {
+                        reservedTypes[slot] = null;
+                    }
+                }
+            }
+        }
+
+        public int getSlots() {
+            return reserved.length;
+        }
+
+        /**
+         * @return The number of items the in-flight stacks are expected to add to the given slot.
+         */
+        public int getReserved(int slot) {
+            return reserved[slot];
+        }
+
+        @Nullable
+        public ItemStack getReservedType(int slot) {
+            return reservedTypes[slot];
+        }
+
+        /**
+         * @return {@code true} if one of the in-flight stacks did not fit the last time this side was checked.
+         */
+        public boolean isBlocked() {
+            return !blocking.isEmpty();
+        }
+
+        /**
+         * @return The number of in-flight stacks that have not been simulated against this side yet.
+         */
+        public int getPendingCount() {
+            return pending.size();
+        }
+    }
+}
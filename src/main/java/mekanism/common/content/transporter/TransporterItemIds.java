@@ -0,0 +1,112 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Assigns ids to the types of items that are synced for stacks moving through transporters, so that each player only has to be sent an item type once instead of with
+ * every update of a stack. When too many types have ids the least recently used one is reassigned, and players are sent the new type the next time its id is used.
+ */
+public class TransporterItemIds {
+
+    private static final int MAX_IDS = 4_096;
+
+    private static final Object2IntLinkedOpenHashMap<HashedItem> ids = new Object2IntLinkedOpenHashMap<>();
+    private static HashedItem[] types = new HashedItem[64];
+    //How many times each id has been reassigned, so that we know when a player needs to be sent the type again
+    private static int[] generations = new int[64];
+    private static long[] lastUsed = new long[64];
+    private static final Map<UUID, Int2IntMap> knownIds = new Object2ObjectOpenHashMap<>();
+    private static final Int2ObjectMap<ItemStack> clientTypes = new Int2ObjectOpenHashMap<>();
+
+    static {
+        ids.defaultReturnValue(-1);
+    }
+
+    private TransporterItemIds() {
+    }
+
+    /**
+     * Gets the id for the type of the given stack, assigning it one if it doesn't have one yet.
+     *
+     * @param stack Stack to get the id of the type of.
+     * @param tick  Current server tick, ids that were used during it will not be reassigned.
+     */
+    public static int getId(ItemStack stack, long tick) {
+        int id = ids.getAndMoveToLast(HashedItem.raw(stack));
+        if (id == -1) {
+            HashedItem type = HashedItem.create(stack);
+            if (ids.size() >= MAX_IDS && lastUsed[ids.getInt(ids.firstKey())] != tick) {
+                //Reassign the least recently used id
+                id = ids.removeFirstInt();
+                generations[id]++;
+            } else {
+                id = ids.size();
+                if (id == types.length) {
+                    int length = types.length * 2;
+                    types = Arrays.copyOf(types, length);
+                    generations = Arrays.copyOf(generations, length);
+                    lastUsed = Arrays.copyOf(lastUsed, length);
+                }
+            }
+            ids.put(type, id);
+            types[id] = type;
+        }
+        lastUsed[id] = tick;
+        return id;
+    }
+
+    /**
+     * Marks the given player as knowing the type the given id is currently assigned to.
+     *
+     * @return {@code true} if the player did not know the type yet, and needs to be sent it.
+     */
+    public static boolean markKnown(UUID player, int id) {
+        Int2IntMap known = knownIds.computeIfAbsent(player, p -> {
+            Int2IntMap map = new Int2IntOpenHashMap();
+            map.defaultReturnValue(-1);
+            return map;
+        });
+        return known.put(id, generations[id]) != generations[id];
+    }
+
+    /**
+     * @return A stack with a size of one of the type the given id is currently assigned to.
+     */
+    public static ItemStack getType(int id) {
+        return types[id].getInternalStack();
+    }
+
+    public static void setClientType(int id, ItemStack type) {
+        clientTypes.put(id, type);
+    }
+
+    public static ItemStack getClientType(int id) {
+        return clientTypes.getOrDefault(id, ItemStack.EMPTY);
+    }
+
+    public static void clearPlayer(UUID player) {
+        knownIds.remove(player);
+    }
+
+    public static void resetClient() {
+        clientTypes.clear();
+    }
+
+    public static void reset() {
+        ids.clear();
+        types = new HashedItem[64];
+        generations = new int[64];
+        lastUsed = new long[64];
+        knownIds.clear();
+    }
+}
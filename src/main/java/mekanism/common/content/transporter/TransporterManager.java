@@ -2,7 +2,7 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -16,6 +16,7 @@ import net.minecraft.core.GlobalPos;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
@@ -23,26 +24,41 @@ public class TransporterManager {
     }
 
     //todo determine if a custom pos record is better storing the long
-    private static final Map<GlobalPos, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    private static final Map<GlobalPos, ReservationLedger> flowingStacks = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest())), k -> new HashSet<>()).add(stack);
+        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest())), k -> new ReservationLedger()).add(stack);
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType().hasTarget()) {
             GlobalPos pos = GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest()));
-            Set<TransporterStack> transporterStacks = flowingStacks.get(pos);
-            if (transporterStacks != null && transporterStacks.remove(stack) && transporterStacks.isEmpty()) {
+            ReservationLedger ledger = flowingStacks.get(pos);
+            if (ledger != null && ledger.remove(stack) && ledger.isEmpty()) {
                 flowingStacks.remove(pos);
             }
         }
     }
 
+    /**
+     * @return The ledger of the stacks that are in flight to the given position, or {@code null} if there are none.
+     */
+    @Nullable
+    public static ReservationLedger getLedger(GlobalPos pos) {
+        return flowingStacks.get(pos);
+    }
+
+    /**
+     * @return The ledgers of all positions that stacks are in flight to.
+     */
+    public static Map<GlobalPos, ReservationLedger> getLedgers() {
+        return Collections.unmodifiableMap(flowingStacks);
+    }
+
     public static boolean didEmit(ItemStack stack, ItemStack returned) {
         return returned.isEmpty() || returned.getCount() < stack.getCount();
     }
@@ -63,7 +79,7 @@ public class TransporterManager {
      *
      * @return The amount that is left over from trying to insert into the destination.
      */
-    private static int simulateInsert(IItemHandler handler, InventoryInfo inventoryInfo, ItemStack stack, int count, boolean inFlight) {
+    static int simulateInsert(IItemHandler handler, InventoryInfo inventoryInfo, ItemStack stack, int count, boolean inFlight) {
         int maxStackSize = stack.getMaxStackSize();
         for (int slot = 0; slot < inventoryInfo.slots; slot++) {
             if (count == 0) {
@@ -91,6 +107,8 @@ public class TransporterManager {
             int mergedCount = count + destCount;
             int toAccept = count;
             boolean needsSimulation = false;
+            //How many items we know the slot can hold without having to simulate again
+            int knownLimit = maxStackSize;
             if (destCount > 0) {
                 if (destCount >= max || !InventoryUtils.areItemsStackable(inventoryInfo.inventory[slot], stack)) {
                     //If the destination is currently full, or it isn't empty and not stackable, move along
@@ -101,6 +119,8 @@ public class TransporterManager {
                     // than the max stack size, we need to simulate to see how much we are actually
                     // able to insert
                     needsSimulation = true;
+                    //Past the max stack size we rely on the simulation to tell us if the slot has a lower limit
+                    knownLimit = max;
                     //If the stack's actual size is less than or equal to the max stack size
                     // then we need to increase the size by one for purposes of properly
                     // being able to simulate what the "limit" of the slot is rather
@@ -153,6 +173,7 @@ public class TransporterManager {
                     //Note: We are use the actual stack size in a slot as we may have adjusted the "stored" amount
                     max = inventoryInfo.actualStackSizes[slot] + accepted;
                 }
+                knownLimit = Math.max(knownLimit, inventoryInfo.actualStackSizes[slot] + accepted);
                 if (destCount == 0) {
                     //If we actually are going to insert it, because there are currently no items
                     // in the destination, we set the item to the one we are sending so that we can compare
@@ -163,6 +184,9 @@ public class TransporterManager {
                     inventoryInfo.inventory[slot] = stack;
                 }
             }
+            if (inventoryInfo.effectiveLimits != null) {
+                inventoryInfo.effectiveLimits[slot] = Math.min(max, knownLimit);
+            }
             if (mergedCount > max) {
                 // Not all the items will fit; put max in and save leftovers
                 inventoryInfo.stackSizes[slot] = max;
@@ -192,11 +216,16 @@ public class TransporterManager {
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
         InventoryInfo inventoryInfo = new InventoryInfo(handler);
         //Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
+        // en-route. The ledger keeps track of how much each in-flight stack is expected to add to each slot,
+        // so that we only have to simulate stacks it hasn't seen yet rather than every stack each time. If any
         // in-flight stack can't be inserted, then we can fail fast.
-        //Note: that stackSizes for inventoryInfo is updated each time
-        if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+        //Note: that stackSizes for inventoryInfo is updated to include the in-flight stacks
+        ReservationLedger ledger = flowingStacks.get(position);
+        if (ledger != null && !ledger.reserve(side, handler, inventoryInfo)) {
+            return request.getEmptyResponse();
+        }
+        //Additional stacks are only flowing for the current operation, so simulate them on top of the reserved amounts
+        if (!predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
             return request.getEmptyResponse();
         }
 
@@ -285,13 +314,18 @@ public class TransporterManager {
      * has to call it anyway to get the stack size). This cache allows potentially expensive {@link IItemHandler#getStackInSlot(int)} implementations to only have to be
      * called once instead of potentially many times as well as allowing for lazily caching slot limits.
      */
-    private static class InventoryInfo {
+    static class InventoryInfo {
 
-        private final ItemStack[] inventory;
-        private final int[] stackSizes;
-        private final int[] actualStackSizes;
+        final ItemStack[] inventory;
+        final int[] stackSizes;
+        final int[] actualStackSizes;
         private final int[] slotLimits;
-        private final int slots;
+        final int slots;
+        /**
+         * When not {@code null}, {@link TransporterManager#simulateInsert} stores in this how many items each slot it put items into is known to be able to hold.
+         */
+        @Nullable
+        int[] effectiveLimits;
 
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
@@ -1,5 +1,6 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
 import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
@@ -13,16 +14,21 @@ import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.Scratch;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongIndexedMinHeap;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -42,6 +48,8 @@ import org.jetbrains.annotations.Nullable;
 
 public final class TransporterPathfinder {
 
+    private static final DestChecker DESTINATION_CHECKER = (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false);
+
     private TransporterPathfinder() {
     }
 
@@ -54,19 +62,41 @@ public final class TransporterPathfinder {
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks, start);
         List<Destination> paths = new ArrayList<>();
-        for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+        if (MekanismConfig.general.transporterSingleSourceRouting.get()) {
+            //Use any cached paths we have, and then find the paths to all remaining destinations with a single search
+            List<AcceptorData> uncached = new ArrayList<>();
+            for (AcceptorData data : acceptors) {
+                if (data.getResponse().getSendingAmount() >= min) {
+                    Destination path = getCachedPath(network, data, start, stack);
+                    if (path == null) {
+                        uncached.add(data);
+                    } else {
+                        paths.add(path);
+                    }
+                }
+            }
+            if (!uncached.isEmpty()) {
+                MultiDestinationPathfinder p = new MultiDestinationPathfinder(network, start.getLevel(), start.getBlockPos(), stack, uncached, DESTINATION_CHECKER);
+                PathfinderCache cache = network.getPathfinderCache();
+                BlockPos startPos = start.getBlockPos();
+                p.find(chunkMap, (data, path, side, cost) -> paths.add(new Destination(cache.addCachedPath(startPos, data.getLocation(), side, path, cost),
+                      data.getResponse())));
+            }
+        } else {
+            for (AcceptorData data : acceptors) {
+                Destination path = getPath(network, data, start, stack, min, chunkMap);
+                if (path != null) {
+                    paths.add(path);
+                }
             }
         }
         Collections.sort(paths);
         return paths;
     }
 
-    public static boolean checkPath(InventoryNetwork network, LongList path, TransporterStack stack) {
-        for (int i = path.size() - 1; i > 0; i--) {
-            LogisticalTransporterBase transmitter = network.getTransmitter(path.getLong(i));
+    public static boolean checkPath(InventoryNetwork network, long[] path, TransporterStack stack) {
+        for (int i = path.length - 1; i > 0; i--) {
+            LogisticalTransporterBase transmitter = network.getTransmitter(path[i]);
             if (transmitter == null) {
                 return false;
             }
@@ -83,21 +113,32 @@ public final class TransporterPathfinder {
           Long2ObjectMap<ChunkAccess> chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
+            Destination cached = getCachedPath(network, data, start, stack);
+            if (cached != null) {
+                return cached;
             }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
+            BlockPos dest = data.getLocation();
+            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(), DESTINATION_CHECKER);
             p.find(chunkMap);
             if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
+                return new Destination(network.getPathfinderCache().addCachedPath(start.getBlockPos(), dest, p), response);
             }
         }
         return null;
     }
 
+    @Nullable
+    private static Destination getCachedPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack) {
+        PathfinderCache cache = network.getPathfinderCache();
+        CachedPath test = cache.getCache(start.getBlockPos(), data.getLocation(), data.getSides());
+        if (test != null && checkPath(network, test.path(), stack)) {
+            cache.countHit();
+            return new Destination(test, data.getResponse());
+        }
+        cache.countMiss();
+        return null;
+    }
+
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -309,7 +350,7 @@ public final class TransporterPathfinder {
         private Path pathType = Path.NONE;
 
         public Destination(CachedPath path, TransitResponse ret) {
-            this(path.path(), ret, path.cost());
+            this(path.asList(), ret, path.cost());
         }
 
         /**
@@ -362,11 +403,6 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
-        private final LongSet openSet = new LongOpenHashSet();
-        private final LongSet closedSet = new LongOpenHashSet();
-        private final Long2LongMap navMap = new Long2LongOpenHashMap();
-        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
-        private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
@@ -391,11 +427,24 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start.asLong());
-            gScore.put(start.asLong(), 0D);
+            Scratch scratch = network.acquirePathfinderScratch();
+            try {
+                return find(scratch, chunkMap);
+            } finally {
+                network.releasePathfinderScratch(scratch);
+            }
+        }
+
+        private boolean find(Scratch scratch, Long2ObjectMap<ChunkAccess> chunkMap) {
+            LongIndexedMinHeap openSet = scratch.openSet;
+            LongSet closedSet = scratch.closedSet;
+            Long2LongMap navMap = scratch.navMap;
+            Long2DoubleMap gScore = scratch.gScore;
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start.asLong(), totalDistance);
+            openSet.insertOrUpdate(startLong, totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
@@ -406,7 +455,7 @@ public final class TransporterPathfinder {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(scratch, start, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -418,22 +467,11 @@ public final class TransporterPathfinder {
             }
             //If the blocks are very close together, allow for path finding up to four blocks away
             double maxSearchDistance = Math.max(2 * totalDistance, 4);
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
             while (!openSet.isEmpty()) {
-                long currentNodeLong = Long.MAX_VALUE;
-                double lowestFScore = 0;
-                for (long node : openSet) {
-                    if (currentNodeLong == Long.MAX_VALUE || fScore.get(node) < lowestFScore) {
-                        currentNodeLong = node;
-                        lowestFScore = fScore.get(node);
-                    }
-                }
-                if (currentNodeLong == Long.MAX_VALUE) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                BlockPos currentNode = BlockPos.of(currentNodeLong);
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNodeLong);
+                //Remove the node with the lowest fScore from unchecked and add it to checked
+                long currentNodeLong = openSet.poll();
+                currentNode.set(currentNodeLong);
                 closedSet.add(currentNodeLong);
                 if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
@@ -455,11 +493,10 @@ public final class TransporterPathfinder {
                         if (!openSet.contains(neighborLong) || tentativeG < gScore.get(neighborLong)) {
                             navMap.put(neighborLong, currentNodeLong);
                             gScore.put(neighborLong, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(neighborLong, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighborLong);
+                            //Queue it by the gScore plus estimate, or if it is already queued, lower its priority in place
+                            openSet.insertOrUpdate(neighborLong, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
+                    } else if (isValidDestination(scratch, currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
                     }
@@ -473,8 +510,8 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+        private boolean isValidDestination(Scratch scratch, BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction,
+              BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -485,8 +522,8 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start.asLong());
-                        finalScore = gScore.get(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
+                        results = reconstructPath(scratch.navMap, start.asLong());
+                        finalScore = scratch.gScore.get(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
                 }
@@ -527,6 +564,149 @@ public final class TransporterPathfinder {
 
             boolean isValid(Level level, BlockPos pos, @Nullable BlockEntity tile, TransporterStack stack, ItemStack data, Direction side);
         }
+
+        /**
+         * Search state used by {@link Pathfinder#find(Long2ObjectMap)} that is pooled per {@link InventoryNetwork} so that the backing arrays of the maps and heap
+         * can be reused between searches instead of being reallocated for every destination.
+         */
+        public static class Scratch {
+
+            private final LongIndexedMinHeap openSet = new LongIndexedMinHeap();
+            private final LongSet closedSet = new LongOpenHashSet();
+            private final Long2LongMap navMap = new Long2LongOpenHashMap();
+            private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+
+            public void clear() {
+                openSet.clear();
+                closedSet.clear();
+                navMap.clear();
+                gScore.clear();
+            }
+        }
     }
 
-}
\ No newline at end of file
+    /**
+     * Uniform cost search that finds the cheapest path from a single start transporter to every one of a set of destinations at once, rather than running a separate
+     * {@link Pathfinder} per destination.
+     */
+    public static class MultiDestinationPathfinder {
+
+        private final InventoryNetwork network;
+        private final Level world;
+        private final BlockPos start;
+        private final TransporterStack transportStack;
+        private final List<AcceptorData> destinations;
+        private final DestChecker destChecker;
+
+        public MultiDestinationPathfinder(InventoryNetwork network, Level world, BlockPos start, TransporterStack stack, List<AcceptorData> destinations,
+              DestChecker checker) {
+            this.network = network;
+            this.world = world;
+            this.start = start;
+            this.transportStack = stack;
+            this.destinations = destinations;
+            this.destChecker = checker;
+        }
+
+        public void find(Long2ObjectMap<ChunkAccess> chunkMap, FoundPathHandler handler) {
+            Scratch scratch = network.acquirePathfinderScratch();
+            try {
+                find(scratch, chunkMap, handler);
+            } finally {
+                network.releasePathfinderScratch(scratch);
+            }
+        }
+
+        private void find(Scratch scratch, Long2ObjectMap<ChunkAccess> chunkMap, FoundPathHandler handler) {
+            Long2ObjectMap<List<AcceptorData>> pending = new Long2ObjectOpenHashMap<>();
+            //Note: Like the single destination pathfinder, if the blocks are very close together, allow for path finding up to four blocks away
+            double maxSearchDistance = 4;
+            for (AcceptorData data : destinations) {
+                pending.computeIfAbsent(data.getLocation().asLong(), pos -> new ArrayList<>(1)).add(data);
+                maxSearchDistance = Math.max(maxSearchDistance, 2 * WorldUtils.distanceBetween(start, data.getLocation()));
+            }
+            LongIndexedMinHeap openSet = scratch.openSet;
+            LongSet closedSet = scratch.closedSet;
+            Long2DoubleMap gScore = scratch.gScore;
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
+            openSet.insertOrUpdate(startLong, 0D);
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
+            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+            while (!openSet.isEmpty()) {
+                //As we are not aiming for a specific destination we expand purely by the cost so far, which means that the first time we are able to reach a
+                // destination we have found the cheapest path to it
+                long currentNodeLong = openSet.poll();
+                currentNode.set(currentNodeLong);
+                closedSet.add(currentNodeLong);
+                double distanceFromStart = WorldUtils.distanceBetween(start, currentNode);
+                if (distanceFromStart > maxSearchDistance) {
+                    continue;
+                }
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNodeLong);
+                double currentScore = gScore.get(currentNodeLong);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    neighbor.setWithOffset(currentNode, direction);
+                    long neighborLong = neighbor.asLong();
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighborLong);
+                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        double tentativeG = currentScore + neighborTransmitter.getCost();
+                        if (!closedSet.contains(neighborLong) && (!openSet.contains(neighborLong) || tentativeG < gScore.get(neighborLong))) {
+                            scratch.navMap.put(neighborLong, currentNodeLong);
+                            gScore.put(neighborLong, tentativeG);
+                            openSet.insertOrUpdate(neighborLong, tentativeG);
+                        }
+                    } else if (currentNodeTransmitter != null) {
+                        List<AcceptorData> destinationsAtPos = pending.get(neighborLong);
+                        if (destinationsAtPos != null && checkDestinations(scratch, destinationsAtPos, currentNodeLong, currentScore, distanceFromStart,
+                              currentNodeTransmitter, direction, neighbor, chunkMap, handler)) {
+                            pending.remove(neighborLong);
+                            if (pending.isEmpty()) {
+                                //We found paths to all our destinations
+                                return;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks which of the destinations at a given position we can emit to from the current node, and passes the resulting paths to the handler.
+         *
+         * @return True if there are no more destinations left at the position.
+         */
+        private boolean checkDestinations(Scratch scratch, List<AcceptorData> destinationsAtPos, long currentNode, double currentScore, double distanceFromStart,
+              LogisticalTransporterBase currentTransporter, Direction direction, BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap, FoundPathHandler handler) {
+            long neighborLong = neighbor.asLong();
+            if (!currentTransporter.canEmitTo(direction) && (neighborLong != transportStack.homeLocation || !currentTransporter.canConnect(direction))) {
+                return false;
+            }
+            BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
+            for (Iterator<AcceptorData> iterator = destinationsAtPos.iterator(); iterator.hasNext(); ) {
+                AcceptorData data = iterator.next();
+                //Only accept destinations that the single destination pathfinder would also have been allowed to search far enough to find
+                if (distanceFromStart <= Math.max(2 * WorldUtils.distanceBetween(start, data.getLocation()), 4) &&
+                    destChecker.isValid(world, neighbor, neighborTile, transportStack, data.getResponse().getStack(), direction)) {
+                    LongList path = new LongArrayList();
+                    path.add(neighborLong);
+                    long node = currentNode;
+                    do {
+                        path.add(node);
+                        node = scratch.navMap.getOrDefault(node, Long.MAX_VALUE);
+                    } while (node != Long.MAX_VALUE);
+                    //Note: The distance to the destination is always one as it is adjacent to the current node
+                    handler.onPathFound(data, path, direction, currentScore + 1);
+                    iterator.remove();
+                }
+            }
+            return destinationsAtPos.isEmpty();
+        }
+
+        @FunctionalInterface
+        public interface FoundPathHandler {
+
+            void onPathFound(AcceptorData data, LongList path, Direction side, double cost);
+        }
+    }
+}
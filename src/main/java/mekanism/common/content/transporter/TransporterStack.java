@@ -47,17 +47,8 @@ public class TransporterStack {
           ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientNext == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientNext),
           ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientPrev == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientPrev),
           ItemStack.OPTIONAL_STREAM_CODEC, stack -> stack.itemStack,
-          (color, progress, originalLocation, pathType, clientNext, clientPrev, itemStack) -> {
-              TransporterStack stack = new TransporterStack();
-              stack.color = color.orElse(null);
-              stack.progress = progress == 0 ? 5 : progress;
-              stack.originalLocation = originalLocation;
-              stack.pathType = pathType;
-              stack.clientNext = clientNext.orElse(Long.MAX_VALUE);
-              stack.clientPrev = clientPrev.orElse(Long.MAX_VALUE);
-              stack.itemStack = itemStack;
-              return stack;
-          }
+          (color, progress, originalLocation, pathType, clientNext, clientPrev, itemStack) -> createClient(color.orElse(null), progress, originalLocation,
+                pathType, clientNext.orElse(Long.MAX_VALUE), clientPrev.orElse(Long.MAX_VALUE), itemStack)
     );
 
     public ItemStack itemStack = ItemStack.EMPTY;
@@ -81,6 +72,22 @@ public class TransporterStack {
     private Path pathType;
     private LongList pathToTarget = new LongArrayList();
 
+    /**
+     * Creates a stack as it is known to the client from data that was synced for it.
+     */
+    public static TransporterStack createClient(@Nullable EnumColor color, int progress, long originalLocation, Path pathType, long clientNext, long clientPrev,
+          ItemStack itemStack) {
+        TransporterStack stack = new TransporterStack();
+        stack.color = color;
+        stack.progress = progress == 0 ? 5 : progress;
+        stack.originalLocation = originalLocation;
+        stack.pathType = pathType;
+        stack.clientNext = clientNext;
+        stack.clientPrev = clientPrev;
+        stack.itemStack = itemStack;
+        return stack;
+    }
+
     public static TransporterStack readFromNBT(HolderLookup.Provider provider, CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
         stack.read(provider, nbtTags);
@@ -273,7 +280,7 @@ public class TransporterStack {
         return transporter.isRemote() ? clientNext : getNext(transporter.getWorldPositionLong());
     }
 
-    private long getNext(long pos) {
+    public long getNext(long pos) {
         int index = pathToTarget.indexOf(pos) - 1;
         if (index < 0) {
             return Long.MAX_VALUE;
@@ -285,7 +292,7 @@ public class TransporterStack {
         return transporter.isRemote() ? clientPrev : getPrev(transporter.getBlockPos().asLong());
     }
 
-    private long getPrev(long pos) {
+    public long getPrev(long pos) {
         int index = pathToTarget.indexOf(pos) + 1;
         if (index < pathToTarget.size()) {
             return pathToTarget.getLong(index);
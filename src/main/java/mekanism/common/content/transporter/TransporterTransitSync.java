@@ -0,0 +1,114 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.transmitter.PacketTransporterTransit;
+import mekanism.common.network.to_client.transmitter.PacketTransporterTransit.ItemType;
+import mekanism.common.network.to_client.transmitter.PacketTransporterTransit.TransitBlock;
+import mekanism.common.network.to_client.transmitter.PacketTransporterTransit.TransitStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the changes to stacks in transit through the transporters of a network, so that at the end of the tick all the changes a player is tracking can be sent to
+ * them in a single packet instead of one packet per transporter.
+ *
+ * @apiNote Only used on the server, and networks may be ticked concurrently so this must only be queued to from the transporters and flushed from the main thread.
+ */
+public class TransporterTransitSync {
+
+    private static final Set<TransporterTransitSync> pending = new ReferenceLinkedOpenHashSet<>();
+
+    private final List<TransitBlock> blocks = new ArrayList<>();
+    @Nullable
+    private ServerLevel level;
+
+    /**
+     * Queues the changes to the stacks in a transporter to be sent at the end of the tick. The state of the stacks is captured immediately.
+     *
+     * @param level   Level the transporter is in.
+     * @param pos     Position of the transporter.
+     * @param deletes Ids of stacks that left the transporter.
+     * @param updates Stacks that were added to or moved in the transporter.
+     */
+    public void queue(ServerLevel level, long pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) {
+        long tick = level.getServer().getTickCount();
+        List<TransitStack> stacks = new ArrayList<>(updates.size());
+        for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+            stacks.add(TransitStack.create(entry.getIntKey(), entry.getValue(), pos, tick));
+        }
+        if (blocks.isEmpty()) {
+            pending.add(this);
+        }
+        this.level = level;
+        blocks.add(new TransitBlock(pos, stacks, new IntArrayList(deletes)));
+    }
+
+    private void collect(Map<ServerPlayer, List<TransitBlock>> playerBlocks) {
+        if (level != null) {
+            Long2ObjectMap<List<ServerPlayer>> chunkPlayers = new Long2ObjectOpenHashMap<>();
+            for (TransitBlock block : blocks) {
+                BlockPos pos = BlockPos.of(block.pos());
+                List<ServerPlayer> players = chunkPlayers.computeIfAbsent(ChunkPos.asLong(pos), chunk -> PacketUtils.getPlayersTracking(level, pos));
+                for (ServerPlayer player : players) {
+                    playerBlocks.computeIfAbsent(player, p -> new ArrayList<>()).add(block);
+                }
+            }
+        }
+        blocks.clear();
+        level = null;
+    }
+
+    /**
+     * Sends all the queued changes, with one packet per player.
+     */
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ServerPlayer, List<TransitBlock>> playerBlocks = new Reference2ObjectLinkedOpenHashMap<>();
+        for (TransporterTransitSync sync : pending) {
+            sync.collect(playerBlocks);
+        }
+        pending.clear();
+        for (Map.Entry<ServerPlayer, List<TransitBlock>> entry : playerBlocks.entrySet()) {
+            ServerPlayer player = entry.getKey();
+            List<TransitBlock> blocks = entry.getValue();
+            UUID uuid = player.getUUID();
+            List<ItemType> types = new ArrayList<>();
+            for (TransitBlock block : blocks) {
+                for (TransitStack stack : block.updates()) {
+                    int itemId = stack.itemId();
+                    if (itemId != -1 && TransporterItemIds.markKnown(uuid, itemId)) {
+                        types.add(new ItemType(itemId, TransporterItemIds.getType(itemId)));
+                    }
+                }
+            }
+            PacketDistributor.sendToPlayer(player, new PacketTransporterTransit(types, blocks));
+        }
+    }
+
+    public static void reset() {
+        for (TransporterTransitSync sync : pending) {
+            sync.blocks.clear();
+            sync.level = null;
+        }
+        pending.clear();
+        TransporterItemIds.reset();
+    }
+}
@@ -2,7 +2,6 @@ package mekanism.common.inventory.container;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +21,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -32,6 +32,7 @@ import mekanism.common.inventory.container.slot.InsertableSlot;
 import mekanism.common.inventory.container.slot.InventoryContainerSlot;
 import mekanism.common.inventory.container.slot.VirtualCraftingOutputSlot;
 import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
+import mekanism.common.lib.collection.OrderedIndexedList;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
@@ -70,10 +71,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return Mth.clamp(maxY, SLOTS_Y_MIN, SLOTS_Y_MAX);
     }
 
-    protected final Map<UUIDAwareHashedItem, ItemSlotData> cachedInventory;
+    protected final Map<UUID, ItemSlotData> cachedInventory;
     protected final IQIOCraftingWindowHolder craftingWindowHolder;
-    protected final List<IScrollableSlot> searchList;
-    protected final List<IScrollableSlot> itemList;
+    protected final OrderedIndexedList<IScrollableSlot> searchList;
+    protected final OrderedIndexedList<IScrollableSlot> itemList;
 
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
@@ -82,6 +83,13 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private ListSortType sortType;
     private SortDirection sortDirection;
     protected String searchQuery;
+    @Nullable
+    private ISearchQuery cachedSearchQuery;
+    /**
+     * Index of the items for searching, only created on the client once something is searched for.
+     */
+    @Nullable
+    private QIOSearchIndex searchIndex;
 
     private int doubleClickTransferTicks = 0;
     private int lastSlot = -1;
@@ -91,22 +99,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     protected QIOItemViewerContainer(ContainerTypeRegistryObject<?> type, int id, Inventory inv, boolean remote, IQIOCraftingWindowHolder craftingWindowHolder,
           BulkQIOData itemData) {
-        this(type, id, inv, remote, craftingWindowHolder, itemData.inventory(), itemData.countCapacity(), itemData.typeCapacity(), itemData.totalItems(), itemData.items(),
-              remote ? new ArrayList<>() : Collections.emptyList(), "",
-              remote ? MekanismConfig.client.qioItemViewerSortType.get() : ListSortType.NAME,
-              remote ? MekanismConfig.client.qioItemViewerSortDirection.get() : SortDirection.ASCENDING,
-              null
+        this(type, id, inv, remote, craftingWindowHolder, itemData.inventory(), itemData.countCapacity(), itemData.typeCapacity(), itemData.totalItems(),
+              //If we are on the client, so we likely have items from the server, make sure we sort it
+              new OrderedIndexedList<>(getInitialSortType(remote).getComparator(getInitialSortDirection(remote)), itemData.items()),
+              new OrderedIndexedList<>(getInitialSortType(remote).getComparator(getInitialSortDirection(remote))), "",
+              getInitialSortType(remote), getInitialSortDirection(remote), null
         );
-
-        //If we are on the client, so we likely have items from the server, make sure we sort it
-        if (remote && craftingWindowHolder != null) {//Crafting window holder should never be null here, but if there was an error we handle it
-            updateSort();
-        }
     }
 
     protected QIOItemViewerContainer(ContainerTypeRegistryObject<?> type, int id, Inventory inv, boolean remote, IQIOCraftingWindowHolder craftingWindowHolder,
-          Map<UUIDAwareHashedItem, ItemSlotData> cachedInventory, long countCapacity, int typeCapacity, long totalItems, List<IScrollableSlot> itemList,
-          List<IScrollableSlot> searchList, String searchQuery, ListSortType sortType, SortDirection sortDirection, @Nullable SelectedWindowData selectedWindow) {
+          Map<UUID, ItemSlotData> cachedInventory, long countCapacity, int typeCapacity, long totalItems, OrderedIndexedList<IScrollableSlot> itemList,
+          OrderedIndexedList<IScrollableSlot> searchList, String searchQuery, ListSortType sortType, SortDirection sortDirection,
+          @Nullable SelectedWindowData selectedWindow) {
         super(type, id, inv);
         this.craftingWindowHolder = craftingWindowHolder;
         this.cachedInventory = cachedInventory;
@@ -351,52 +355,86 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return Optional.empty();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private static ListSortType getInitialSortType(boolean remote) {
+        return remote ? MekanismConfig.client.qioItemViewerSortType.get() : ListSortType.NAME;
+    }
+
+    private static SortDirection getInitialSortDirection(boolean remote) {
+        return remote ? MekanismConfig.client.qioItemViewerSortDirection.get() : SortDirection.ASCENDING;
+    }
+
+    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, Object2LongMap<UUID> countMap, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        if (itemMap.isEmpty()) {
+        if (itemMap.isEmpty() && countMap.isEmpty()) {
             //No items need updating, we just changed the counts/capacities, in general this should never be the case, but in case it is
             // just short circuit a lot of logic
             return;
         }
-        boolean needsSort = sortType.usesCount();
+        //Note: As the lists are kept sorted, we only need to reposition the items that were added, removed, or had their position changed
+        // due to the sort method we have selected being affected at some level by the stored count
+        boolean usesCount = sortType.usesCount();
+        Level level = getLevel();
+        ISearchQuery query = getSearchQuery();
         for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
             UUIDAwareHashedItem itemKey = entry.getKey();
-            long value = entry.getLongValue();
-            if (value == 0) {
-                ItemSlotData oldData = cachedInventory.remove(itemKey);
-                if (oldData != null) {
-                    //If we did in fact have old data stored, remove the item from the stored total count
-                    totalItems -= oldData.count();
-                    // and remove the item from the list of items we are tracking
-                    // Note: Implementation detail is that we use a ReferenceArrayList in BulkQIOData#fromPacket to ensure that when removing
-                    // we only need to do reference equality instead of object equality
-                    //TODO: Can we somehow make removing more efficient by taking advantage of the fact that itemList is sorted?
-                    itemList.remove(oldData);
-                    //Mark that we have some items that changed and it isn't just counts that changed
-                    needsSort = true;
-                }
-            } else {
-                ItemSlotData slotData = cachedInventory.get(itemKey);
-                if (slotData == null) {
-                    //If it is a new item, add the amount to the total items, and start tracking it
-                    totalItems += value;
-                    slotData = new ItemSlotData(itemKey, value);
-                    itemList.add(slotData);
-                    cachedInventory.put(itemKey, slotData);
-                    //Mark that we have some items that changed and it isn't just counts that changed
-                    needsSort = true;
-                } else {
-                    //If an existing item is updated, update the stored amount by the change in quantity
-                    totalItems += value - slotData.count();
-                    slotData.count = value;
+            updateItem(itemKey.getUUID(), itemKey, entry.getLongValue(), usesCount, level, query);
+        }
+        for (Object2LongMap.Entry<UUID> entry : countMap.object2LongEntrySet()) {
+            updateItem(entry.getKey(), null, entry.getLongValue(), usesCount, level, query);
+        }
+    }
+
+    /**
+     * @param itemKey The full item data, or {@code null} if the server only sent the count as it knows we already have the item data.
+     */
+    private void updateItem(UUID uuid, @Nullable UUIDAwareHashedItem itemKey, long value, boolean usesCount, Level level, @Nullable ISearchQuery query) {
+        if (value == 0) {
+            ItemSlotData oldData = cachedInventory.remove(uuid);
+            if (oldData != null) {
+                //If we did in fact have old data stored, remove the item from the stored total count
+                totalItems -= oldData.count();
+                // and remove the item from the lists of items we are tracking
+                itemList.remove(oldData);
+                searchList.remove(oldData);
+                if (searchIndex != null) {
+                    searchIndex.remove(oldData);
                 }
             }
+            return;
         }
-        if (needsSort) {
-            //Note: We only need to bother resorting the lists and recalculating the sorted searches if an item was added or removed
-            // or if the sort method we have selected is affected at some level by the stored count
-            updateSort();
+        ItemSlotData slotData = cachedInventory.get(uuid);
+        if (slotData == null) {
+            if (itemKey == null) {
+                //Should never happen as the server only sends counts for items it has sent us before, but if it does we can't display the item anyway
+                return;
+            }
+            //If it is a new item, add the amount to the total items, and start tracking it
+            totalItems += value;
+            slotData = new ItemSlotData(itemKey, value);
+            cachedInventory.put(uuid, slotData);
+            itemList.add(slotData);
+            if (searchIndex != null) {
+                searchIndex.add(slotData);
+            }
+            if (query != null && query.test(level, inv.player, slotData.getInternalStack())) {
+                searchList.add(slotData);
+            }
+        } else {
+            //If an existing item is updated, update the stored amount by the change in quantity
+            totalItems += value - slotData.count();
+            if (usesCount && slotData.count() != value) {
+                //Remove the item before changing the count, so that it can be found based on its current position, and then add it back
+                itemList.remove(slotData);
+                boolean matchesSearch = searchList.remove(slotData);
+                slotData.count = value;
+                itemList.add(slotData);
+                if (matchesSearch) {
+                    searchList.add(slotData);
+                }
+            } else {
+                slotData.count = value;
+            }
         }
     }
 
@@ -405,6 +443,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         searchList.clear();
         itemList.clear();
         searchQuery = "";
+        cachedSearchQuery = null;
+        searchIndex = null;
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -508,12 +548,23 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     }
 
     private void updateSort() {
-        sortType.sort(itemList, sortDirection);
-        //TODO: Would it be easier to add/remove changed things that no longer match and then just run the sort on the search list as well?
-        // Or in cases where we are just doing a resort without the search query changing, running a sort on the search list as well?
-        // This might be beneficial at the very least in cases where the search list is small, and the list of total items is large
-        //Note: Update the search as well because it is based on the sorted list so that it displays matches in sorted order
-        updateSearch(getLevel(), searchQuery, false);
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        itemList.setComparator(comparator);
+        //Note: The search list contains a subset of the item list, so we can just resort it directly instead of having to recalculate the search
+        searchList.setComparator(comparator);
+    }
+
+    /**
+     * @return The parsed search query, or {@code null} if there is no search query.
+     */
+    @Nullable
+    private ISearchQuery getSearchQuery() {
+        if (searchQuery.isEmpty()) {
+            return null;
+        } else if (cachedSearchQuery == null) {
+            cachedSearchQuery = SearchQueryParser.parse(searchQuery);
+        }
+        return cachedSearchQuery;
     }
 
     public void updateSearch(@Nullable Level level, String queryText, boolean skipSameQuery) {
@@ -524,17 +575,17 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             //Short circuit and skip updating the search if we already have the results
             return;
         }
-        //TODO: Realistically we may want to be caching the ISearchQuery rather than or in addition to the query text?
         searchQuery = queryText;
+        cachedSearchQuery = null;
         searchList.clear();
         if (!itemList.isEmpty() && !searchQuery.isEmpty()) {
             //TODO: Improve how we cache to allow for some form of incremental updating based on the search text changing?
-            ISearchQuery query = SearchQueryParser.parse(searchQuery);
-            for (IScrollableSlot slot : itemList) {
-                if (query.test(level, inv.player, slot.getInternalStack())) {
-                    searchList.add(slot);
-                }
+            if (searchIndex == null) {
+                searchIndex = new QIOSearchIndex(itemList);
             }
+            List<IScrollableSlot> matches = searchIndex.search(level, inv.player, getSearchQuery());
+            matches.sort(itemList.comparator());
+            searchList.setSorted(matches);
         }
     }
 
@@ -689,10 +740,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             this.descendingComparator = descendingComparator;
         }
 
-        public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            if (!list.isEmpty()) {
-                list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
-            }
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         /**
@@ -1,7 +1,7 @@
 package mekanism.common.inventory.container.item;
 
-import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import mekanism.api.security.IItemSecurityUtils;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.PortableQIODashboardInventory;
@@ -12,8 +12,8 @@ import mekanism.common.inventory.container.item.MekanismItemContainer.IItemConta
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.sync.SyncableFrequency;
 import mekanism.common.inventory.container.sync.SyncableItemStack;
+import mekanism.common.lib.collection.OrderedIndexedList;
 import mekanism.common.lib.frequency.FrequencyType;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.qio.BulkQIOData;
 import mekanism.common.network.to_server.PacketItemGuiInteract;
@@ -42,8 +42,8 @@ public class PortableQIODashboardContainer extends QIOItemViewerContainer {
     }
 
     private PortableQIODashboardContainer(int id, Inventory inv, InteractionHand hand, ItemStack stack, boolean remote, IQIOCraftingWindowHolder craftingWindowHolder,
-          Map<UUIDAwareHashedItem, ItemSlotData> cachedInventory, long countCapacity, int typeCapacity, long totalItems, List<IScrollableSlot> itemList,
-          @Nullable List<IScrollableSlot> searchList, ListSortType sortType, SortDirection sortDirection, String searchQuery, @Nullable SelectedWindowData selectedWindow,
+          Map<UUID, ItemSlotData> cachedInventory, long countCapacity, int typeCapacity, long totalItems, OrderedIndexedList<IScrollableSlot> itemList,
+          OrderedIndexedList<IScrollableSlot> searchList, ListSortType sortType, SortDirection sortDirection, String searchQuery, @Nullable SelectedWindowData selectedWindow,
           QIOFrequency freq) {
         super(MekanismContainerTypes.PORTABLE_QIO_DASHBOARD, id, inv, remote, craftingWindowHolder, cachedInventory, countCapacity, typeCapacity, totalItems,
               itemList, searchList, searchQuery, sortType, sortDirection, selectedWindow);
@@ -1,11 +1,11 @@
 package mekanism.common.inventory.container.tile;
 
-import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.inventory.container.SelectedWindowData;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.collection.OrderedIndexedList;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.qio.BulkQIOData;
 import mekanism.common.network.to_server.PacketGuiInteract;
@@ -29,9 +29,9 @@ public class QIODashboardContainer extends QIOItemViewerContainer {
         finishConstructor();
     }
 
-    private QIODashboardContainer(int id, Inventory inv, TileEntityQIODashboard tile, boolean remote, Map<UUIDAwareHashedItem, ItemSlotData> cachedInventory,
-          long countCapacity, int typeCapacity, long totalItems, List<IScrollableSlot> itemList, @Nullable List<IScrollableSlot> searchList, ListSortType sortType,
-          SortDirection sortDirection, String searchQuery, @Nullable SelectedWindowData selectedWindow) {
+    private QIODashboardContainer(int id, Inventory inv, TileEntityQIODashboard tile, boolean remote, Map<UUID, ItemSlotData> cachedInventory,
+          long countCapacity, int typeCapacity, long totalItems, OrderedIndexedList<IScrollableSlot> itemList, OrderedIndexedList<IScrollableSlot> searchList,
+          ListSortType sortType, SortDirection sortDirection, String searchQuery, @Nullable SelectedWindowData selectedWindow) {
         super(MekanismContainerTypes.QIO_DASHBOARD, id, inv, remote, tile, cachedInventory, countCapacity, typeCapacity, totalItems, itemList, searchList, searchQuery,
               sortType, sortDirection, selectedWindow);
         this.tile = tile;
@@ -13,7 +13,9 @@ import mekanism.api.text.TextComponentUtil;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -101,6 +103,11 @@ public class ItemNetworkReader extends ItemEnergized {
             sendMessageIfNonNull(player, MekanismLang.NETWORK_READER_BUFFER, transmitterNetwork.getStoredInfo());
             sendMessageIfNonNull(player, MekanismLang.NETWORK_READER_THROUGHPUT, transmitterNetwork.getFlowInfo());
             sendMessageIfNonNull(player, MekanismLang.NETWORK_READER_CAPACITY, transmitterNetwork.getNetworkReaderCapacity());
+            if (transmitterNetwork instanceof InventoryNetwork inventoryNetwork) {
+                PathfinderCache pathfinderCache = inventoryNetwork.getPathfinderCache();
+                player.sendSystemMessage(MekanismLang.NETWORK_READER_ROUTES.translateColored(EnumColor.GRAY, EnumColor.DARK_GRAY, pathfinderCache.size(),
+                      EnumColor.DARK_GRAY, pathfinderCache.getHits(), EnumColor.DARK_GRAY, pathfinderCache.getMisses()));
+            }
             IHeatHandler heatHandler = WorldUtils.getCapability(level, Capabilities.HEAT, pos, null, tile, opposite);
             if (heatHandler != null) {
                 sendTemperature(player, heatHandler);
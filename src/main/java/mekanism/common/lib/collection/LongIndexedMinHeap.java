@@ -0,0 +1,159 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of primitive long keys ordered by a double priority, that keeps track of where each key is stored so that the priority of a key that is already in
+ * the heap can be changed in place (decrease-key) rather than having to scan for it.
+ *
+ * @implNote Intended to be cleared and reused, so {@link #clear()} keeps the backing arrays around.
+ */
+public class LongIndexedMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+    private long[] keys;
+    private double[] priorities;
+    private int size;
+
+    public LongIndexedMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongIndexedMinHeap(int initialCapacity) {
+        initialCapacity = Math.max(1, initialCapacity);
+        keys = new long[initialCapacity];
+        priorities = new double[initialCapacity];
+        indices.defaultReturnValue(-1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long key) {
+        return indices.containsKey(key);
+    }
+
+    /**
+     * Adds the given key to the heap, or if it is already present changes its priority to the given priority.
+     */
+    public void insertOrUpdate(long key, double priority) {
+        int index = indices.get(key);
+        if (index == -1) {
+            if (size == keys.length) {
+                int newCapacity = keys.length << 1;
+                keys = Arrays.copyOf(keys, newCapacity);
+                priorities = Arrays.copyOf(priorities, newCapacity);
+            }
+            index = size++;
+            keys[index] = key;
+            priorities[index] = priority;
+            indices.put(key, index);
+            siftUp(index);
+        } else {
+            double previous = priorities[index];
+            priorities[index] = priority;
+            if (priority < previous) {
+                siftUp(index);
+            } else if (priority > previous) {
+                siftDown(index);
+            }
+        }
+    }
+
+    /**
+     * @return The key with the lowest priority.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * @return The lowest priority in the heap.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public double peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the key with the lowest priority.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long poll() {
+        long top = peek();
+        indices.remove(top);
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void clear() {
+        indices.clear();
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        long key = keys[index];
+        double priority = priorities[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        set(index, key, priority);
+    }
+
+    private void siftDown(int index) {
+        long key = keys[index];
+        double priority = priorities[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        set(index, key, priority);
+    }
+
+    private void move(int from, int to) {
+        set(to, keys[from], priorities[from]);
+    }
+
+    private void set(int index, long key, double priority) {
+        keys[index] = key;
+        priorities[index] = priority;
+        indices.put(key, index);
+    }
+}
@@ -0,0 +1,323 @@
+package mekanism.common.lib.collection;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * List that keeps its elements sorted by a comparator, backed by a balanced binary tree where each node knows the size of its subtree. This allows inserting, removing,
+ * and getting the element at an index in {@code O(log n)} time, so that large sorted lists can be kept up to date without having to resort them after every change.
+ * <p>
+ * Elements that compare as equal are kept in the order they were added in, and elements are removed by reference equality, so elements that compare as equal but are
+ * not the same object can be told apart.
+ *
+ * @implNote The comparator must be consistent for an element for as long as it is in the list. If a property the comparator depends on changes, the element must be
+ * removed before the change, and added back after it.
+ */
+public class OrderedIndexedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private Comparator<? super E> comparator;
+    private Node<E> root;
+    //Scratch space for passing the removed element out of removeAt
+    private E removed;
+
+    public OrderedIndexedList(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    public OrderedIndexedList(Comparator<? super E> comparator, Collection<? extends E> elements) {
+        this.comparator = comparator;
+        List<E> sorted = new ArrayList<>(elements);
+        sorted.sort(comparator);
+        root = build(sorted, 0, sorted.size());
+    }
+
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Changes the comparator and resorts the list.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        List<E> elements = new ArrayList<>(this);
+        elements.sort(comparator);
+        root = build(elements, 0, elements.size());
+    }
+
+    /**
+     * Replaces the contents of this list with the given elements, which must already be sorted by this list's comparator.
+     */
+    public void setSorted(List<? extends E> sortedElements) {
+        root = build(sortedElements, 0, sortedElements.size());
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Adds the element in sorted order, after any elements that compare as equal to it.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+        root = insert(root, element);
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        root = removeAt(root, index);
+        E value = removed;
+        removed = null;
+        return value;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index == -1) {
+            return false;
+        }
+        root = removeAt(root, index);
+        removed = null;
+        return true;
+    }
+
+    /**
+     * @return The index of the given element, comparing by reference, or {@code -1} if it is not in the list.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object element) {
+        return root == null ? -1 : indexOf(root, (E) element, 0);
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        //Elements are unique by reference
+        return indexOf(element);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) != -1;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator();
+    }
+
+    private int indexOf(Node<E> node, E element, int offset) {
+        while (node != null) {
+            int comparison = comparator.compare(element, node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else if (node.value == element) {
+                return offset + size(node.left);
+            } else {
+                //Equal but not the same element, it may be on either side
+                int leftIndex = indexOf(node.left, element, offset);
+                if (leftIndex != -1) {
+                    return leftIndex;
+                }
+                offset += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        if (comparator.compare(element, node.value) < 0) {
+            node.left = insert(node.left, element);
+        } else {
+            node.right = insert(node.right, element);
+        }
+        return balance(node);
+    }
+
+    private Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = removeAt(node.left, index);
+        } else if (index > leftSize) {
+            node.right = removeAt(node.right, index - leftSize - 1);
+        } else {
+            removed = node.value;
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            //Replace the value with the next one in order, and then remove that one from the right side
+            E removedValue = removed;
+            node.right = removeAt(node.right, 0);
+            node.value = removed;
+            removed = removedValue;
+        }
+        return balance(node);
+    }
+
+    private Node<E> build(List<? extends E> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<E> node = new Node<>(sorted.get(middle));
+        node.left = build(sorted, from, middle);
+        node.right = build(sorted, middle + 1, to);
+        node.update();
+        return node;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <E> Node<E> balance(Node<E> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static class Node<E> {
+
+        private E value;
+        private Node<E> left;
+        private Node<E> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(E value) {
+            this.value = value;
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    private class InOrderIterator implements Iterator<E> {
+
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+        private final int expectedSize = size();
+
+        private InOrderIterator() {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node<E> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            } else if (expectedSize != size()) {
+                throw new ConcurrentModificationException();
+            }
+            Node<E> node = stack.pop();
+            pushLeft(node.right);
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link Target} that keeps track of the handlers that need more than their share in parallel arrays rather than collections of
+ * {@link HandlerType}s. When the needed amounts first have to be shifted, they are put into a tree that keeps the minimum amount needed of each range of handlers, in
+ * the order the handlers were added. Shifting then jumps straight to the next handler that fits under the current share, instead of rescanning every remaining handler
+ * each time the share changes, while still giving the handlers the amounts in the same order {@link Target} would. This matters as {@link SplitInfo} does not always
+ * recalculate the share after a handler is given exactly its share, so the amounts handlers end up with depend on the order they are given them.
+ * <p>
+ * Targets of this type can be {@link #clear() cleared} and reused to avoid allocating anything in the steady state.
+ *
+ * @param <HANDLER>  The Handler this target keeps track of.
+ * @param <RESOURCE> The resource being sent. Any amount field in this should be ignored.
+ */
+public abstract class SortedTarget<HANDLER, RESOURCE> extends Target<HANDLER, RESOURCE> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Object[] neededHandlers;
+    /**
+     * Amount each needed handler wants, or zero if the handler has already been given the amount it needs.
+     */
+    private long[] neededAmounts;
+    /**
+     * Tree of the minimum amount needed in each range of the needed handlers, with the leaves starting at {@link #leafCount}. Handlers that have been given the amount
+     * they need are stored as {@link Long#MAX_VALUE}. Only valid when {@link #treeBuilt} is true.
+     */
+    private long[] minNeeded = new long[0];
+    private int leafCount;
+    private int neededCount;
+    private int remainingNeeded;
+    private boolean treeBuilt;
+
+    protected SortedTarget() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    protected SortedTarget(int expectedSize) {
+        super(expectedSize);
+        int capacity = Math.max(DEFAULT_CAPACITY, expectedSize / 2);
+        neededHandlers = new Object[capacity];
+        neededAmounts = new long[capacity];
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resetNeeded();
+    }
+
+    private void resetNeeded() {
+        //Note: We don't bother clearing the amounts as they get overwritten when new needs are added
+        Arrays.fill(neededHandlers, 0, neededCount, null);
+        neededCount = 0;
+        remainingNeeded = 0;
+        treeBuilt = false;
+    }
+
+    private void addNeeded(HANDLER handler, long amount) {
+        if (neededCount == neededHandlers.length) {
+            int newCapacity = neededCount << 1;
+            neededHandlers = Arrays.copyOf(neededHandlers, newCapacity);
+            neededAmounts = Arrays.copyOf(neededAmounts, newCapacity);
+        }
+        neededHandlers[neededCount] = handler;
+        neededAmounts[neededCount] = amount;
+        neededCount++;
+        remainingNeeded++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HANDLER getNeededHandler(int index) {
+        return (HANDLER) neededHandlers[index];
+    }
+
+    private void markSent(int index) {
+        neededAmounts[index] = 0;
+        remainingNeeded--;
+        if (treeBuilt) {
+            int node = leafCount + index;
+            minNeeded[node] = Long.MAX_VALUE;
+            for (node >>= 1; node > 0; node >>= 1) {
+                minNeeded[node] = Math.min(minNeeded[node << 1], minNeeded[(node << 1) + 1]);
+            }
+        }
+    }
+
+    private void buildTree() {
+        leafCount = 1;
+        while (leafCount < neededCount) {
+            leafCount <<= 1;
+        }
+        if (minNeeded.length < 2 * leafCount) {
+            minNeeded = new long[2 * leafCount];
+        }
+        for (int i = 0; i < leafCount; i++) {
+            long amount = i < neededCount ? neededAmounts[i] : 0;
+            minNeeded[leafCount + i] = amount == 0 ? Long.MAX_VALUE : amount;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            minNeeded[node] = Math.min(minNeeded[node << 1], minNeeded[(node << 1) + 1]);
+        }
+        treeBuilt = true;
+    }
+
+    /**
+     * Finds the first needed handler at or after the given index that needs no more than the given amount.
+     *
+     * @return The index of the handler, or {@code -1} if there is none.
+     */
+    private int findFirstFitting(int node, int nodeStart, int nodeEnd, int from, long limit) {
+        if (nodeEnd <= from || minNeeded[node] > limit) {
+            return -1;
+        } else if (node >= leafCount) {
+            return node - leafCount;
+        }
+        int middle = (nodeStart + nodeEnd) >>> 1;
+        int index = findFirstFitting(node << 1, nodeStart, middle, from, limit);
+        return index == -1 ? findFirstFitting((node << 1) + 1, middle, nodeEnd, from, limit) : index;
+    }
+
+    @Override
+    public void sendPossible(RESOURCE resource, SplitInfo splitInfo) {
+        resetNeeded();
+        if (splitInfo.getShareAmount() == 0) {
+            //We are all remainder, just calculate how much each can accept
+            for (HANDLER entry : handlers) {
+                long amountNeeded = simulate(entry, resource, splitInfo.getUnsent());
+                if (amountNeeded != 0) {
+                    addNeeded(entry, amountNeeded);
+                }
+            }
+        } else {
+            for (HANDLER entry : handlers) {
+                long amountNeeded = simulate(entry, resource, splitInfo.getUnsent());
+                if (amountNeeded <= splitInfo.getShareAmount()) {
+                    if (amountNeeded != 0) {
+                        acceptAmount(entry, splitInfo, resource, amountNeeded);
+                    }
+                } else {
+                    addNeeded(entry, amountNeeded);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shiftNeeded(RESOURCE resource, SplitInfo splitInfo) {
+        if (splitInfo.getShareAmount() == 0 || remainingNeeded == 0) {
+            return;
+        }
+        if (!treeBuilt) {
+            buildTree();
+        }
+        //Go through the handlers that fit under the share in the order they were added, rechecking the share after each one as giving a handler its amount
+        // may raise it, which is the same as what iterating all the needed handlers would do but without looking at the handlers that don't fit
+        int index = findFirstFitting(1, 0, leafCount, 0, splitInfo.getShareAmount());
+        while (index != -1) {
+            acceptAmount(getNeededHandler(index), splitInfo, resource, neededAmounts[index]);
+            markSent(index);
+            index = findFirstFitting(1, 0, leafCount, index + 1, splitInfo.getShareAmount());
+        }
+    }
+
+    @Override
+    public void sendRemainingSplit(RESOURCE resource, SplitInfo splitInfo) {
+        //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
+        if (remainingNeeded > 0 && splitInfo.getRemainderAmount() != 0) {
+            //Note: We go through the handlers in the order they were added, so that the remainder goes to the same handlers as it would for a plain target
+            for (int i = 0; i < neededCount; i++) {
+                long amountNeeded = neededAmounts[i];
+                if (amountNeeded == 0) {
+                    continue;
+                }
+                long remainderAmount = splitInfo.getRemainderAmount();
+                if (remainderAmount == 0) {
+                    //We finished inserting everything we wanted to, we can just exit
+                    return;
+                }
+                if (amountNeeded <= remainderAmount) {
+                    acceptAmount(getNeededHandler(i), splitInfo, resource, amountNeeded);
+                    markSent(i);
+                } else {
+                    splitInfo.decrementTargets = false;
+                    acceptAmount(getNeededHandler(i), splitInfo, resource, remainderAmount);
+                    splitInfo.decrementTargets = true;
+                }
+            }
+            if (splitInfo.getUnsent() != 0) {
+                //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
+                for (int i = 0; i < neededCount; i++) {
+                    if (neededAmounts[i] != 0) {
+                        long remaining = splitInfo.getUnsent();
+                        if (remaining == 0) {
+                            //We finished, exit
+                            return;
+                        }
+                        acceptAmount(getNeededHandler(i), splitInfo, resource, remaining);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -51,6 +51,17 @@ public abstract class Target<HANDLER, RESOURCE> {
         return handlerCount;
     }
 
+    /**
+     * Removes all handlers from this target so that it can be reused.
+     *
+     * @apiNote Not supported by targets that were created with a fixed collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+        handlerCount = 0;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
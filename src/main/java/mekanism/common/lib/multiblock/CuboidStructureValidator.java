@@ -15,9 +15,11 @@ import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class CuboidStructureValidator<T extends MultiblockData> implements IStructureValidator<T> {
 
@@ -84,8 +86,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
         } else if (!state.isAir()) {
-            //Make sure the position is immutable before we store it
-            ctx.internalLocations.add(pos.immutable());
+            ctx.internalLocations.add(pos);
         }
         return FormationResult.SUCCESS;
     }
@@ -129,10 +130,10 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
                 }
             }
         }
-        //Make sure the position is immutable before we store it
-        pos = pos.immutable();
         ctx.locations.add(pos);
         if (type.isValve()) {
+            //Make sure the position is immutable before we store it
+            pos = pos.immutable();
             ValveData data = new ValveData(pos, getSide(pos));
             ctx.valves.add(data);
         }
@@ -144,6 +145,40 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public boolean revalidate(FormationProtocol<T> ctx, T structure, Long2ObjectMap<ChunkAccess> chunkMap, @Nullable Block previous, BlockPos pos) {
+        cuboid = structure.getBounds();
+        if (previous != null) {
+            Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
+            if (optionalState.isEmpty()) {
+                return false;
+            }
+            BlockState state = optionalState.get();
+            if (state.is(previous)) {
+                if (!canRevalidate(state)) {
+                    return false;
+                }
+            } else if (getStructureRequirement(pos).isCasing()) {
+                //Different casing blocks are only equivalent if they are both frames or both valves, as other casing types may be counted by the postcheck
+                CasingType type = getCasingType(state);
+                if ((!type.isFrame() && !type.isValve()) || type != getCasingType(previous.defaultBlockState())) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return validateNode(ctx, chunkMap, pos).isFormed();
+    }
+
+    /**
+     * Checks if a block that was replaced by the same block can be rechecked on its own, or if the replacement may have changed something the postcheck calculates
+     * from the block's state.
+     */
+    protected boolean canRevalidate(BlockState state) {
+        return true;
+    }
+
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
         if (relative.isOnEdge()) {
@@ -1,7 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -18,6 +21,7 @@ import mekanism.common.MekanismLang;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
@@ -26,8 +30,11 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
@@ -40,8 +47,14 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    /**
+     * Positions of the frame of the structure. Only has bounds once the shape of the structure has been found.
+     */
+    public StructureLocations locations = new StructureLocations();
+    /**
+     * Positions of the non-air blocks inside the structure. Only has bounds once the shape of the structure has been found.
+     */
+    public StructureLocations internalLocations = new StructureLocations();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Map<UUID, MultiblockCache<T>> idsFound = new HashMap<>();
 
@@ -56,6 +69,8 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
+        locations = new StructureLocations(structure.getBounds());
+        internalLocations = new StructureLocations(structure.getBounds());
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         FormationResult result = validator.validate(this, chunkMap);
@@ -70,6 +85,88 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.isFormed() ? form(structure, idsFound) : fail(result);
     }
 
+    /**
+     * Rechecks only the positions of the formed multiblock that were marked as changed and their neighbors, instead of rebuilding the entire structure.
+     *
+     * @return {@code true} if the changed positions were replaced by equivalent valid blocks and the multiblock stays formed as is, {@code false} if the structure
+     * needs to be rebuilt.
+     */
+    public boolean revalidate() {
+        T multiblock = pointer.getMultiblock();
+        Long2ObjectMap<Block> changed = multiblock.getChangedLocations();
+        if (!multiblock.isFormed() || changed.isEmpty()) {
+            return false;
+        }
+        IStructureValidator<T> validator = manager.createValidator();
+        Level world = pointer.getLevel();
+        validator.init(world, manager, structure);
+        locations = new StructureLocations(multiblock.getBounds());
+        internalLocations = new StructureLocations(multiblock.getBounds());
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        //Swap replaced parts of the frame into the structure, so that the validator checks the new tiles instead of the removed ones
+        for (long changedPos : changed.keySet()) {
+            pos.set(changedPos);
+            if (multiblock.locations.contains(pos)) {
+                if (!(WorldUtils.getTileEntity(world, chunkMap, pos) instanceof IMultiblockBase node)) {
+                    return false;
+                }
+                Structure nodeStructure = node.getStructure(manager);
+                if (nodeStructure != null && nodeStructure != structure && nodeStructure.isValid()) {
+                    //The replacement already became part of a different structure
+                    return false;
+                }
+                structure.replaceNode(manager, node);
+            }
+        }
+        LongSet checked = new LongOpenHashSet();
+        for (Long2ObjectMap.Entry<Block> entry : Long2ObjectMaps.fastIterable(changed)) {
+            pos.set(entry.getLongKey());
+            checked.add(entry.getLongKey());
+            if (!revalidate(validator, multiblock, chunkMap, entry.getValue(), pos)) {
+                return false;
+            }
+        }
+        //Recheck the neighbors as well, in case whether they are valid depends on the blocks next to them
+        for (long changedPos : changed.keySet()) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                pos.set(changedPos).move(side);
+                if (multiblock.isKnownLocation(pos) && checked.add(pos.asLong()) && !revalidate(validator, multiblock, chunkMap, null, pos)) {
+                    return false;
+                }
+            }
+        }
+        //Make sure the checked positions have the same valves as before
+        int knownValves = 0;
+        for (ValveData valve : multiblock.valves) {
+            if (checked.contains(valve.location.asLong())) {
+                knownValves++;
+            }
+        }
+        if (knownValves != valves.size() || !multiblock.valves.containsAll(valves)) {
+            return false;
+        }
+        for (long changedPos : changed.keySet()) {
+            pos.set(changedPos);
+            BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
+            if (tile instanceof IInternalMultiblock internalMultiblock) {
+                internalMultiblock.setMultiblock(multiblock);
+            } else if (tile instanceof IStructuralMultiblock structuralMultiblock) {
+                structuralMultiblock.multiblockFormed(multiblock);
+            }
+        }
+        changed.clear();
+        return true;
+    }
+
+    private boolean revalidate(IStructureValidator<T> validator, T multiblock, Long2ObjectMap<ChunkAccess> chunkMap, @Nullable Block previous, BlockPos pos) {
+        if (!validator.revalidate(this, multiblock, chunkMap, previous, pos)) {
+            return false;
+        }
+        //Make sure the position is still the same kind of part of the structure as it was before
+        return locations.contains(pos) == multiblock.locations.contains(pos) && internalLocations.contains(pos) == multiblock.internalLocations.contains(pos);
+    }
+
     /**
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
@@ -3,8 +3,11 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public interface IStructureValidator<T extends MultiblockData> {
 
@@ -16,5 +19,21 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Rechecks a single position of an already formed structure, adding it to the context the same way {@link #validate(FormationProtocol, Long2ObjectMap)} would.
+     *
+     * @param ctx       Context to add the position to.
+     * @param structure Formed structure the position is part of.
+     * @param previous  Block that was at the position before it changed, or {@code null} if the position is only being rechecked as the neighbor of a changed
+     *                  position.
+     * @param pos       Position to check.
+     *
+     * @return {@code true} if the position is still valid, and replacing the previous block with the current one cannot change anything that
+     * {@link #postcheck(MultiblockData, Long2ObjectMap)} calculates. {@code false} if the structure needs to be fully rebuilt.
+     */
+    default boolean revalidate(FormationProtocol<T> ctx, T structure, Long2ObjectMap<ChunkAccess> chunkMap, @Nullable Block previous, BlockPos pos) {
+        return false;
+    }
+
     IShape getShape();
 }
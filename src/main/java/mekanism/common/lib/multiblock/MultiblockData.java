@@ -1,5 +1,7 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -47,6 +49,7 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
 import org.jetbrains.annotations.NotNull;
@@ -54,7 +57,7 @@ import org.jetbrains.annotations.Nullable;
 
 public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler, IMekanismStrictEnergyHandler, ITileHeatHandler, IMekanismChemicalHandler {
 
-    public Set<BlockPos> locations = new ObjectOpenHashSet<>();
+    public StructureLocations locations = new StructureLocations();
     /**
      * @apiNote This set is only used for purposes of caching all known valid inner blocks of a multiblock structure, for use in checking if we need to revalidate the
      * multiblock when something changes, cases we want to skip are inner nodes just changing state (for example, super heating elements being activated) This set is not
@@ -62,7 +65,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
      * accurate of checks that get done against this as there is no way to tell if the state actually changed or if the block changed entirely, but assuming no one is
      * replacing the blocks inside a multiblock (which is unsupported) it will handle it fine, and we can easily special-case it becoming air as having been "broken"
      */
-    public Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    public StructureLocations internalLocations = new StructureLocations();
     public Set<ValveData> valves = new ObjectOpenHashSet<>();
 
     @ContainerSync(getter = "getVolume", setter = "setVolume")
@@ -81,6 +84,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     @ContainerSync
     private boolean formed;
     public boolean recheckStructure;
+    /**
+     * Positions that were marked as changed since the structure was last checked, and the block that was at each of them before the change. If this is empty while
+     * {@link #recheckStructure} is set, the entire structure is rebuilt, otherwise only the changed positions are rechecked first.
+     */
+    private final Long2ObjectMap<Block> changedLocations = new Long2ObjectOpenHashMap<>();
 
     private int currentRedstoneLevel;
 
@@ -201,13 +209,13 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void onCreated(Level world) {
-        for (BlockPos pos : internalLocations) {
+        for (BlockPos pos : internalLocations.mutable()) {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IInternalMultiblock internalMultiblock) {
                 internalMultiblock.setMultiblock(this);
             }
         }
-        for (BlockPos pos : locations) {
+        for (BlockPos pos : locations.mutable()) {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IStructuralMultiblock structuralMultiblock) {
                 structuralMultiblock.multiblockFormed(this);
@@ -249,13 +257,13 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void remove(Level world, Structure oldStructure) {
-        for (BlockPos pos : internalLocations) {
+        for (BlockPos pos : internalLocations.mutable()) {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IInternalMultiblock internalMultiblock) {
                 internalMultiblock.setMultiblock(null);
             }
         }
-        for (BlockPos pos : locations) {
+        for (BlockPos pos : locations.mutable()) {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IStructuralMultiblock structuralMultiblock) {
                 structuralMultiblock.multiblockUnformed(oldStructure);
@@ -264,6 +272,26 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         inventoryID = null;
         formed = false;
         recheckStructure = false;
+        changedLocations.clear();
+    }
+
+    /**
+     * Marks the structure as needing to be rechecked because the block at the given position changed.
+     *
+     * @param pos      Position that changed.
+     * @param previous Block that was at the position before it changed.
+     */
+    public void markChanged(BlockPos pos, Block previous) {
+        //Keep the oldest block if the position changes multiple times before the structure gets rechecked
+        changedLocations.putIfAbsent(pos.asLong(), previous);
+        recheckStructure = true;
+    }
+
+    /**
+     * @return Positions that changed since the structure was last checked, mapped to the block that was at each of them before the change.
+     */
+    public Long2ObjectMap<Block> getChangedLocations() {
+        return changedLocations;
     }
 
     public void meltdownHappened(Level world) {
@@ -20,6 +20,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -112,6 +113,29 @@ public class Structure {
         tick(tile, tryValidate);
     }
 
+    /**
+     * Rechecks the formed multiblock after blocks that are part of it changed. If the changed positions are known, only they get rechecked, and the structure is only
+     * rebuilt if they weren't replaced by equivalent blocks.
+     */
+    public <TILE extends BlockEntity & IMultiblock<?>> void recheck(TILE tile, boolean tryValidate) {
+        if (multiblockData != null) {
+            Long2ObjectMap<Block> changed = multiblockData.getChangedLocations();
+            if (!changed.isEmpty()) {
+                if (tile.createFormationProtocol().revalidate()) {
+                    return;
+                }
+                for (long pos : changed.keySet()) {
+                    if (multiblockData.locations.contains(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos))) {
+                        //Part of the frame was removed without being replaced, invalidate the structure the same as if it had been done when the part was removed
+                        invalidate(tile.getLevel());
+                        return;
+                    }
+                }
+            }
+        }
+        doImmediateUpdate(tile, tryValidate);
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
@@ -225,6 +249,22 @@ public class Structure {
         return nodes.containsKey(pos);
     }
 
+    /**
+     * Removes the given node from the structure, for when a part of the formed structure was removed and the master will check if it gets replaced by an equivalent
+     * block.
+     */
+    public void removeNode(IMultiblockBase node) {
+        nodes.remove(node.getBlockPos(), node);
+    }
+
+    /**
+     * Replaces the node at the given node's position with the given node, for when a part of the formed structure was replaced by an equivalent block.
+     */
+    void replaceNode(MultiblockManager<?> manager, IMultiblockBase node) {
+        nodes.put(node.getBlockPos(), node);
+        node.setStructure(manager, this);
+    }
+
     public int size() {
         return nodes.size();
     }
@@ -0,0 +1,221 @@
+package mekanism.common.lib.multiblock;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of positions in a multiblock structure, stored as a bitset over the positions relative to the structure's bounds. This takes a bit per position in the bounds,
+ * instead of a boxed {@link BlockPos} and a hash table entry per position, and lets checking if a position is part of the structure be done without hashing.
+ * <p>
+ * {@link #iterator()} creates an immutable position for each element, so that the positions can safely be stored. {@link #mutable()} can be used instead when the
+ * positions are only looked at, to iterate without allocating a position per element.
+ */
+public class StructureLocations extends AbstractSet<BlockPos> {
+
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final long[] bits;
+    private int size;
+
+    /**
+     * Creates an empty set with empty bounds, that positions cannot be added to.
+     */
+    public StructureLocations() {
+        this(0, 0, 0, 0, 0, 0);
+    }
+
+    public StructureLocations(VoxelCuboid bounds) {
+        this(bounds.getMinPos(), bounds.getMaxPos());
+    }
+
+    public StructureLocations(BlockPos min, BlockPos max) {
+        this(min.getX(), min.getY(), min.getZ(), max.getX() - min.getX() + 1, max.getY() - min.getY() + 1, max.getZ() - min.getZ() + 1);
+    }
+
+    private StructureLocations(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = Math.max(sizeX, 0);
+        this.sizeY = Math.max(sizeY, 0);
+        this.sizeZ = Math.max(sizeZ, 0);
+        this.bits = new long[(this.sizeX * this.sizeY * this.sizeZ + Long.SIZE - 1) / Long.SIZE];
+    }
+
+    /**
+     * @return Index of the given position in {@link #bits}, or {@code -1} if it is outside the bounds.
+     */
+    private int index(int x, int y, int z) {
+        x -= minX;
+        y -= minY;
+        z -= minZ;
+        if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) {
+            return -1;
+        }
+        return (y * sizeZ + z) * sizeX + x;
+    }
+
+    private void setPos(BlockPos.MutableBlockPos pos, int index) {
+        int x = index % sizeX;
+        int rest = index / sizeX;
+        pos.set(minX + x, minY + rest / sizeZ, minZ + rest % sizeZ);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        int index = index(x, y, z);
+        return index != -1 && (bits[index >> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof BlockPos pos && contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote The position does not need to be immutable, as only its coordinates are stored.
+     * @throws IllegalArgumentException if the position is outside the bounds of this set.
+     */
+    @Override
+    public boolean add(BlockPos pos) {
+        int index = index(pos.getX(), pos.getY(), pos.getZ());
+        if (index == -1) {
+            throw new IllegalArgumentException("Position " + pos + " is outside the bounds of the structure");
+        }
+        long mask = 1L << index;
+        if ((bits[index >> 6] & mask) != 0) {
+            return false;
+        }
+        bits[index >> 6] |= mask;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof BlockPos pos) {
+            int index = index(pos.getX(), pos.getY(), pos.getZ());
+            if (index != -1) {
+                long mask = 1L << index;
+                if ((bits[index >> 6] & mask) != 0) {
+                    bits[index >> 6] &= ~mask;
+                    size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(bits, 0);
+        size = 0;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        return new PositionIterator(false);
+    }
+
+    /**
+     * @return An iterable whose iterators return the same mutable position for every element. The positions must not be stored or modified.
+     */
+    public Iterable<BlockPos> mutable() {
+        return () -> new PositionIterator(true);
+    }
+
+    @Override
+    public int hashCode() {
+        //Note: This matches the hash code of other sets containing the same positions, without having to create a position for each element
+        int hash = 0;
+        for (BlockPos pos : mutable()) {
+            hash += pos.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof StructureLocations other && minX == other.minX && minY == other.minY && minZ == other.minZ && sizeX == other.sizeX &&
+                   sizeY == other.sizeY && sizeZ == other.sizeZ) {
+            return size == other.size && Arrays.equals(bits, other.bits);
+        }
+        return super.equals(o);
+    }
+
+    private class PositionIterator implements Iterator<BlockPos> {
+
+        private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        private final boolean mutable;
+        private int next;
+        private int last = -1;
+
+        private PositionIterator(boolean mutable) {
+            this.mutable = mutable;
+            this.next = nextSetBit(0);
+        }
+
+        private int nextSetBit(int from) {
+            int wordIndex = from >> 6;
+            if (wordIndex >= bits.length) {
+                return -1;
+            }
+            //Mask off the bits below from
+            long word = bits[wordIndex] & (-1L << from);
+            while (true) {
+                if (word != 0) {
+                    return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                } else if (++wordIndex == bits.length) {
+                    return -1;
+                }
+                word = bits[wordIndex];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != -1;
+        }
+
+        @Override
+        public BlockPos next() {
+            if (next == -1) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = nextSetBit(next + 1);
+            setPos(mutablePos, last);
+            return mutable ? mutablePos : mutablePos.immutable();
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            bits[last >> 6] &= ~(1L << last);
+            size--;
+            last = -1;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -35,6 +34,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.curios.CuriosIntegration;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.radiation.RadiationSourceIndex.DimensionSources;
 import mekanism.common.network.to_client.radiation.PacketEnvironmentalRadiationData;
 import mekanism.common.network.to_client.radiation.PacketPlayerRadiationData;
 import mekanism.common.registries.MekanismDamageTypes;
@@ -47,6 +47,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtOps;
@@ -58,7 +59,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -67,6 +67,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
@@ -117,8 +118,7 @@ public class RadiationManager implements IRadiationManager {
 
     private boolean loaded;
 
-    private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
-    private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    private final RadiationSourceIndex radiationSources = new RadiationSourceIndex();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -159,7 +159,7 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return BASELINE;
         }
         return getRadiationLevel(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
@@ -182,74 +182,64 @@ public class RadiationManager implements IRadiationManager {
         return ticks;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The sources are stored in a {@link RadiationSourceIndex}, so this creates a snapshot of them. Changes to the returned sources are not reflected by the
+     * manager.
+     */
     @Override
     public Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources() {
-        return radiationView;
+        Table<Chunk3D, GlobalPos, IRadiationSource> table = HashBasedTable.create();
+        for (DimensionSources dimensionSources : radiationSources.dimensions()) {
+            for (int slot = 0, size = dimensionSources.size(); slot < size; slot++) {
+                GlobalPos pos = GlobalPos.of(dimensionSources.dimension, BlockPos.of(dimensionSources.getPosition(slot)));
+                table.put(new Chunk3D(pos), pos, new RadiationSource(pos, dimensionSources.getMagnitude(slot)));
+            }
+        }
+        return Tables.unmodifiableTable(table);
     }
 
     @Override
     public void removeRadiationSources(Chunk3D chunk) {
-        Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
-        if (!chunkSources.isEmpty()) {
-            chunkSources.clear();
+        if (radiationSources.removeChunk(chunk.dimension, chunk.toLong())) {
             markDirty();
-            updateClientRadiationForAll(chunk.dimension);
+            updateClientRadiationNear(chunk.dimension, chunk.x, chunk.z);
         }
     }
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
-        Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
+        if (radiationSources.remove(pos.dimension(), pos.pos())) {
             markDirty();
-            updateClientRadiationForAll(pos.dimension());
+            updateClientRadiationNear(pos.dimension(), SectionPos.blockToSectionCoord(pos.pos().getX()), SectionPos.blockToSectionCoord(pos.pos().getZ()));
         }
     }
 
     @Override
     public double getRadiationLevel(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return BASELINE;
         }
         return getRadiationLevelAndMaxMagnitude(pos).level();
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return LevelAndMaxMagnitude.BASELINE;
         }
         return getRadiationLevelAndMaxMagnitude(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
+        DimensionSources dimensionSources = radiationSources.get(pos.dimension());
+        if (dimensionSources == null) {
+            return LevelAndMaxMagnitude.BASELINE;
         }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return dimensionSources.getLevelAndMaxMagnitude(pos.pos(), MekanismConfig.general.radiationChunkCheckRadius.get());
     }
 
     @Override
@@ -257,16 +247,10 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
-        RadiationSource src = radiationSourceMap.get(pos);
-        if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
-        } else {
-            src.radiate(magnitude);
-        }
+        radiationSources.radiate(pos.dimension(), pos.pos(), magnitude);
         markDirty();
         //Update radiation levels immediately
-        updateClientRadiationForAll(pos.dimension());
+        updateClientRadiationNear(pos.dimension(), SectionPos.blockToSectionCoord(pos.pos().getX()), SectionPos.blockToSectionCoord(pos.pos().getZ()));
     }
 
     @Override
@@ -320,17 +304,13 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void clearSources() {
-        if (!radiationTable.isEmpty()) {
-            radiationTable.clear();
+        if (!radiationSources.isEmpty()) {
+            radiationSources.clear();
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -360,13 +340,43 @@ public class RadiationManager implements IRadiationManager {
         return resistance;
     }
 
-    private void updateClientRadiationForAll(ResourceKey<Level> dimension) {
+    /**
+     * Updates the radiation levels of the players that are close enough to the given chunk for a source in it to affect them.
+     */
+    private void updateClientRadiationNear(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
         MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         if (server != null) {
             //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
+            int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
                 if (player.level().dimension() == dimension) {
+                    ChunkPos playerChunk = player.chunkPosition();
+                    if (Math.abs(playerChunk.x - chunkX) <= radius && Math.abs(playerChunk.z - chunkZ) <= radius) {
+                        updateClientRadiation(player);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the radiation levels of the players that have sources close enough to affect them, or that were last synced a radiation level above the baseline.
+     */
+    private void updateClientRadiationNearSources() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
+            int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                PreviousRadiationData previousRadiationData = playerEnvironmentalExposureMap.get(player.getUUID());
+                if (previousRadiationData == null || previousRadiationData.magnitude() > BASELINE) {
+                    //Either we haven't synced the player yet, or they may have moved away from the sources, so we need to check
                     updateClientRadiation(player);
+                } else {
+                    DimensionSources dimensionSources = radiationSources.get(player.level().dimension());
+                    if (dimensionSources != null && dimensionSources.hasSourcesNear(player.chunkPosition().toLong(), radius)) {
+                        updateClientRadiation(player);
+                    }
                 }
             }
         }
@@ -493,24 +503,21 @@ public class RadiationManager implements IRadiationManager {
 
     public void tickServer(boolean tickingNormally) {
         // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        if (!isRadiationEnabled() || radiationSources.isEmpty()) {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
-                // near the player if they are walking around while ticks are frozen
-                if (tickingNormally) {
-                    // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
-                    //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                    markDirty();
-                }
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+            //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
+            // near the player if they are walking around while ticks are frozen
+            if (tickingNormally) {
+                // decay all sources at once, removing any that get too low
+                radiationSources.decay(MekanismConfig.general.radiationSourceDecayRate.get());
+                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+                markDirty();
             }
+            //Update radiation levels for any players where it may have changed
+            updateClientRadiationNearSources();
         }
     }
 
@@ -530,7 +537,7 @@ public class RadiationManager implements IRadiationManager {
 
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
-        radiationTable.clear();
+        radiationSources.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -560,7 +567,7 @@ public class RadiationManager implements IRadiationManager {
 
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
 
-        private static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
+        static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
     }
 
     public enum RadiationScale {
@@ -678,7 +685,7 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.radiationSources.radiate(source.getPos().dimension(), source.getPos().pos(), source.getMagnitude());
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -730,11 +737,14 @@ public class RadiationManager implements IRadiationManager {
         @NotNull
         @Override
         public CompoundTag save(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
-            if (manager != null && !manager.radiationTable.isEmpty()) {
+            if (manager != null && !manager.radiationSources.isEmpty()) {
                 RegistryOps<Tag> registryOps = provider.createSerializationContext(NbtOps.INSTANCE);
                 ListTag list = new ListTag();
-                for (RadiationSource source : manager.radiationTable.values()) {
-                    list.add(source.write(registryOps));
+                for (DimensionSources dimensionSources : manager.radiationSources.dimensions()) {
+                    for (int slot = 0, size = dimensionSources.size(); slot < size; slot++) {
+                        GlobalPos pos = GlobalPos.of(dimensionSources.dimension, BlockPos.of(dimensionSources.getPosition(slot)));
+                        list.add(new RadiationSource(pos, dimensionSources.getMagnitude(slot)).write(registryOps));
+                    }
                 }
                 nbtTags.put(SerializationConstants.RADIATION_LIST, list);
             }
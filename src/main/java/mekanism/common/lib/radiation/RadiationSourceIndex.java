@@ -0,0 +1,350 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Radiation sources tracked by the {@link RadiationManager}, partitioned by dimension. Each dimension stores the packed positions and magnitudes of its sources in
+ * parallel arrays, so that decaying all the sources is a single pass over the magnitudes, and indexes the sources by chunk.
+ * <p>
+ * Each dimension also caches, per chunk, the sources that are close enough to affect positions in that chunk. This lets radiation level queries look up a single cell
+ * instead of checking every chunk within {@link mekanism.common.config.GeneralConfig#radiationChunkCheckRadius the check radius}, and lets queries in chunks that no
+ * sources are close to return the baseline right away. Cells are built the first time a chunk is queried and invalidated when sources near the chunk are added or
+ * removed.
+ */
+@NothingNullByDefault
+public class RadiationSourceIndex {
+
+    private final Map<ResourceKey<Level>, DimensionSources> dimensions = new Reference2ObjectOpenHashMap<>();
+
+    public boolean isEmpty() {
+        //Note: We remove dimensions when they no longer have any sources
+        return dimensions.isEmpty();
+    }
+
+    public int size() {
+        int size = 0;
+        for (DimensionSources sources : dimensions.values()) {
+            size += sources.size();
+        }
+        return size;
+    }
+
+    @Nullable
+    public DimensionSources get(ResourceKey<Level> dimension) {
+        return dimensions.get(dimension);
+    }
+
+    public Collection<DimensionSources> dimensions() {
+        return dimensions.values();
+    }
+
+    /**
+     * Adds the given magnitude to the source at the given position, creating the source if there isn't one yet.
+     */
+    public void radiate(ResourceKey<Level> dimension, BlockPos pos, double magnitude) {
+        dimensions.computeIfAbsent(dimension, DimensionSources::new).radiate(pos.asLong(), magnitude);
+    }
+
+    /**
+     * @return {@code true} if there was a source at the given position.
+     */
+    public boolean remove(ResourceKey<Level> dimension, BlockPos pos) {
+        DimensionSources sources = dimensions.get(dimension);
+        if (sources != null && sources.remove(pos.asLong())) {
+            removeIfEmpty(sources);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if there were any sources in the given chunk.
+     */
+    public boolean removeChunk(ResourceKey<Level> dimension, long chunk) {
+        DimensionSources sources = dimensions.get(dimension);
+        if (sources != null && sources.removeChunk(chunk)) {
+            removeIfEmpty(sources);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decays all sources, removing any that drop below {@link RadiationManager#MIN_MAGNITUDE}.
+     */
+    public void decay(double rate) {
+        dimensions.values().removeIf(sources -> {
+            sources.decay(rate);
+            return sources.size() == 0;
+        });
+    }
+
+    public void clear() {
+        dimensions.clear();
+    }
+
+    private void removeIfEmpty(DimensionSources sources) {
+        if (sources.size() == 0) {
+            dimensions.remove(sources.dimension);
+        }
+    }
+
+    public static class DimensionSources {
+
+        private static final int[] EMPTY_CELL = new int[0];
+
+        public final ResourceKey<Level> dimension;
+        /**
+         * Packed position to the index of the source in {@link #positions} and {@link #magnitudes}.
+         */
+        private final Long2IntMap slots = new Long2IntOpenHashMap();
+        private final Long2ObjectMap<LongList> chunks = new Long2ObjectOpenHashMap<>();
+        /**
+         * Chunk to the indices of the sources that are close enough to affect positions in that chunk.
+         */
+        private final Long2ObjectMap<int[]> cells = new Long2ObjectOpenHashMap<>();
+        private long[] positions = new long[8];
+        /** In Sv/h */
+        private double[] magnitudes = new double[8];
+        private int size;
+        private int cellRadius = -1;
+
+        private DimensionSources(ResourceKey<Level> dimension) {
+            this.dimension = dimension;
+            slots.defaultReturnValue(-1);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long getPosition(int slot) {
+            return positions[slot];
+        }
+
+        public double getMagnitude(int slot) {
+            return magnitudes[slot];
+        }
+
+        /**
+         * @return The magnitude of the source at the given position, or zero if there is no source there.
+         */
+        public double getMagnitude(long pos) {
+            int slot = slots.get(pos);
+            return slot == -1 ? 0 : magnitudes[slot];
+        }
+
+        private void radiate(long pos, double magnitude) {
+            int slot = slots.get(pos);
+            if (slot != -1) {
+                magnitudes[slot] += magnitude;
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                magnitudes = Arrays.copyOf(magnitudes, size * 2);
+            }
+            positions[size] = pos;
+            magnitudes[size] = magnitude;
+            slots.put(pos, size++);
+            long chunk = chunkOf(pos);
+            chunks.computeIfAbsent(chunk, c -> new LongArrayList()).add(pos);
+            invalidateAround(chunk);
+        }
+
+        private boolean remove(long pos) {
+            int slot = slots.remove(pos);
+            if (slot == -1) {
+                return false;
+            }
+            long chunk = chunkOf(pos);
+            removeFromChunk(chunk, pos);
+            invalidateAround(chunk);
+            int last = --size;
+            if (slot != last) {
+                //Move the last source into the removed one's slot, and invalidate the cells that reference it by its old slot
+                long moved = positions[last];
+                positions[slot] = moved;
+                magnitudes[slot] = magnitudes[last];
+                slots.put(moved, slot);
+                invalidateAround(chunkOf(moved));
+            }
+            return true;
+        }
+
+        private boolean removeChunk(long chunk) {
+            LongList chunkSources = chunks.remove(chunk);
+            if (chunkSources == null) {
+                return false;
+            }
+            for (int i = 0, count = chunkSources.size(); i < count; i++) {
+                slots.remove(chunkSources.getLong(i));
+            }
+            compact();
+            return true;
+        }
+
+        private void decay(double rate) {
+            //Note: We decay all the magnitudes in their own loop so that it can be vectorized
+            for (int i = 0; i < size; i++) {
+                magnitudes[i] *= rate;
+            }
+            boolean removed = false;
+            for (int i = 0; i < size; i++) {
+                if (magnitudes[i] < RadiationManager.MIN_MAGNITUDE) {
+                    //Remove if source gets too low
+                    long pos = positions[i];
+                    slots.remove(pos);
+                    removeFromChunk(chunkOf(pos), pos);
+                    removed = true;
+                }
+            }
+            if (removed) {
+                compact();
+            }
+            //Remove cached cells that have no sources, as they are cheap to rebuild and would otherwise accumulate for every chunk any entity has been in
+            cells.values().removeIf(cell -> cell.length == 0);
+        }
+
+        /**
+         * Removes the sources that are no longer in {@link #slots} from the arrays, and updates the slots of the remaining ones.
+         */
+        private void compact() {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                long pos = positions[read];
+                if (slots.containsKey(pos)) {
+                    if (write != read) {
+                        positions[write] = pos;
+                        magnitudes[write] = magnitudes[read];
+                        slots.put(pos, write);
+                    }
+                    write++;
+                }
+            }
+            size = write;
+            //Slots were moved, so all the cells are invalid
+            cells.clear();
+        }
+
+        private void removeFromChunk(long chunk, long pos) {
+            LongList chunkSources = chunks.get(chunk);
+            if (chunkSources != null) {
+                chunkSources.rem(pos);
+                if (chunkSources.isEmpty()) {
+                    chunks.remove(chunk);
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if there are any sources close enough to affect positions in the given chunk.
+         */
+        public boolean hasSourcesNear(long chunk, int radius) {
+            return getCell(chunk, radius).length > 0;
+        }
+
+        public LevelAndMaxMagnitude getLevelAndMaxMagnitude(BlockPos pos, int radius) {
+            int[] cell = getCell(ChunkPos.asLong(pos), radius);
+            if (cell.length == 0) {
+                return LevelAndMaxMagnitude.BASELINE;
+            }
+            // we only compute exposure when within the MAX_RANGE bounds
+            double maxRange = Mth.square(radius * 16);
+            double level = RadiationManager.BASELINE;
+            double maxMagnitude = RadiationManager.BASELINE;
+            for (int slot : cell) {
+                long sourcePos = positions[slot];
+                double dx = BlockPos.getX(sourcePos) - pos.getX();
+                double dy = BlockPos.getY(sourcePos) - pos.getY();
+                double dz = BlockPos.getZ(sourcePos) - pos.getZ();
+                double distance = dx * dx + dy * dy + dz * dz;
+                if (distance <= maxRange) {
+                    double magnitude = magnitudes[slot];
+                    level += magnitude / Math.max(1, distance);
+                    maxMagnitude = Math.max(maxMagnitude, magnitude);
+                }
+            }
+            return new LevelAndMaxMagnitude(level, maxMagnitude);
+        }
+
+        private int[] getCell(long chunk, int radius) {
+            if (cellRadius != radius) {
+                //The check radius changed, so all the cells are the wrong size
+                cells.clear();
+                cellRadius = radius;
+            }
+            int[] cell = cells.get(chunk);
+            if (cell == null) {
+                cell = buildCell(ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+                cells.put(chunk, cell);
+            }
+            return cell;
+        }
+
+        private int[] buildCell(int chunkX, int chunkZ) {
+            int count = 0;
+            for (int x = chunkX - cellRadius; x <= chunkX + cellRadius; x++) {
+                for (int z = chunkZ - cellRadius; z <= chunkZ + cellRadius; z++) {
+                    LongList chunkSources = chunks.get(ChunkPos.asLong(x, z));
+                    if (chunkSources != null) {
+                        count += chunkSources.size();
+                    }
+                }
+            }
+            if (count == 0) {
+                return EMPTY_CELL;
+            }
+            int[] cell = new int[count];
+            int index = 0;
+            for (int x = chunkX - cellRadius; x <= chunkX + cellRadius; x++) {
+                for (int z = chunkZ - cellRadius; z <= chunkZ + cellRadius; z++) {
+                    LongList chunkSources = chunks.get(ChunkPos.asLong(x, z));
+                    if (chunkSources != null) {
+                        for (int i = 0, sources = chunkSources.size(); i < sources; i++) {
+                            cell[index++] = slots.get(chunkSources.getLong(i));
+                        }
+                    }
+                }
+            }
+            return cell;
+        }
+
+        /**
+         * Invalidates the cells that sources in the given chunk are close enough to affect.
+         */
+        private void invalidateAround(long chunk) {
+            if (!cells.isEmpty()) {
+                int chunkX = ChunkPos.getX(chunk);
+                int chunkZ = ChunkPos.getZ(chunk);
+                for (int x = chunkX - cellRadius; x <= chunkX + cellRadius; x++) {
+                    for (int z = chunkZ - cellRadius; z <= chunkZ + cellRadius; z++) {
+                        cells.remove(ChunkPos.asLong(x, z));
+                    }
+                }
+            }
+        }
+
+        private static long chunkOf(long pos) {
+            return ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+        }
+    }
+}
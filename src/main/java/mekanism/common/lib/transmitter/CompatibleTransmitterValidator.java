@@ -24,6 +24,15 @@ public class CompatibleTransmitterValidator<ACCEPTOR, NETWORK extends DynamicNet
         return true;
     }
 
+    /**
+     * Whether orphan transmitters using this validator can be assigned to networks a whole cluster at a time, rather than by checking each transmitter as it is found.
+     * This must be {@code false} for validators that keep track of the contents, as they may split a cluster into multiple networks depending on the order the
+     * transmitters are found in.
+     */
+    public boolean canUseClusterFastPath() {
+        return true;
+    }
+
     public static class CompatibleChemicalTransmitterValidator extends CompatibleTransmitterValidator<IChemicalHandler, ChemicalNetwork, PressurizedTube> {
 
         private Chemical buffer;
@@ -62,6 +71,11 @@ public class CompatibleTransmitterValidator<ACCEPTOR, NETWORK extends DynamicNet
         public boolean isTransmitterCompatible(Transmitter<?, ?, ?> transmitter) {
             return super.isTransmitterCompatible(transmitter) && transmitter instanceof PressurizedTube tube && compareBuffers(tube.getBufferWithFallback().getChemical());
         }
+
+        @Override
+        public boolean canUseClusterFastPath() {
+            return false;
+        }
     }
 
     public static class CompatibleFluidTransmitterValidator extends CompatibleTransmitterValidator<IFluidHandler, FluidNetwork, MechanicalPipe> {
@@ -102,5 +116,10 @@ public class CompatibleTransmitterValidator<ACCEPTOR, NETWORK extends DynamicNet
         public boolean isTransmitterCompatible(Transmitter<?, ?, ?> transmitter) {
             return super.isTransmitterCompatible(transmitter) && transmitter instanceof MechanicalPipe pipe && compareBuffers(pipe.getBufferWithFallback());
         }
+
+        @Override
+        public boolean canUseClusterFastPath() {
+            return false;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry.OrphanPathFinder;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+
+/**
+ * Assigns the orphan transmitters of a single dimension to networks. A read-only snapshot of how the orphans connect to each other is taken on the main thread, which
+ * then allows the disjoint clusters of orphans to be found in parallel as the snapshot only consists of primitive data. Creating and merging the networks for each
+ * cluster is then done back on the main thread.
+ */
+class OrphanClusterFinder {
+
+    /**
+     * Minimum number of orphans before we bother searching for clusters in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1_024;
+    private static final int NO_NEIGHBOR = -1;
+    private static final int UNCLAIMED = -1;
+
+    private final Level world;
+    private final Long2IntMap indices = new Long2IntOpenHashMap();
+    private final List<Transmitter<?, ?, ?>> orphans = new ArrayList<>();
+    /**
+     * Transmitters that are already part of a network that are connected to the orphan at the given index.
+     */
+    private final Int2ObjectMap<List<Transmitter<?, ?, ?>>> connectedTransmitters = new Int2ObjectOpenHashMap<>();
+    /**
+     * Index of the orphan on each side of an orphan, or {@link #NO_NEIGHBOR} if there is no orphan it can connect to on that side.
+     */
+    private int[] neighbors = new int[0];
+
+    OrphanClusterFinder(Level world) {
+        this.world = world;
+        indices.defaultReturnValue(NO_NEIGHBOR);
+    }
+
+    void addOrphan(Transmitter<?, ?, ?> orphan) {
+        indices.put(orphan.getWorldPositionLong(), orphans.size());
+        orphans.add(orphan);
+    }
+
+    /**
+     * Assigns all the orphans that were added to this finder to networks, and adds the networks to the given set of networks that need changes committed.
+     */
+    void assignOrphans(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, Set<DynamicNetwork<?, ?, ?>> networksToChange) {
+        snapshot(orphanTransmitters);
+        int[] clusters = findClusters();
+        //Group the orphans by cluster, keeping the clusters in the order the first orphan in them was added
+        Int2ObjectMap<IntList> clusterMembers = new Int2ObjectLinkedOpenHashMap<>();
+        for (int index = 0; index < clusters.length; index++) {
+            clusterMembers.computeIfAbsent(clusters[index], cluster -> new IntArrayList()).add(index);
+        }
+        for (IntList cluster : clusterMembers.values()) {
+            assignCluster(orphans.get(cluster.getInt(0)), cluster, orphanTransmitters, networksToChange);
+        }
+    }
+
+    private void snapshot(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters) {
+        int count = orphans.size();
+        neighbors = new int[count * EnumUtils.DIRECTIONS.length];
+        Arrays.fill(neighbors, NO_NEIGHBOR);
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+        for (int index = 0; index < count; index++) {
+            Transmitter<?, ?, ?> orphan = orphans.get(index);
+            long pos = orphan.getWorldPositionLong();
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                long neighbor = WorldUtils.relativePos(pos, direction);
+                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, neighborPos.set(neighbor));
+                if (tile != null && orphan.isValidTransmitterBasic(tile, direction)) {
+                    int neighborIndex = indices.get(neighbor);
+                    if (neighborIndex != NO_NEIGHBOR) {
+                        neighbors[index * EnumUtils.DIRECTIONS.length + direction.ordinal()] = neighborIndex;
+                    } else if (!orphanTransmitters.containsKey(GlobalPos.of(world.dimension(), neighborPos))) {
+                        //Note: We skip orphans that are no longer valid, the same as the orphan path finder does
+                        connectedTransmitters.computeIfAbsent(index, i -> new ArrayList<>()).add(tile.getTransmitter());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return For each orphan, the index of an orphan that all orphans in the same cluster share.
+     */
+    private int[] findClusters() {
+        int count = orphans.size();
+        AtomicIntegerArray owners = new AtomicIntegerArray(count);
+        for (int index = 0; index < count; index++) {
+            owners.set(index, UNCLAIMED);
+        }
+        //Pairs of owners whose searches ran into each other, and are therefore part of the same cluster
+        Queue<LongSet> links = new ConcurrentLinkedQueue<>();
+        IntStream seeds = IntStream.range(0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            seeds = seeds.parallel();
+        }
+        seeds.forEach(seed -> claim(seed, owners, links));
+        //Join the owners that ran into each other
+        int[] parents = new int[count];
+        for (int index = 0; index < count; index++) {
+            parents[index] = index;
+        }
+        for (LongSet ownerLinks : links) {
+            for (long link : ownerLinks) {
+                int first = find(parents, (int) (link >>> 32));
+                int second = find(parents, (int) link);
+                if (first != second) {
+                    //Keep the lower index as the root, so that the order clusters are handled in doesn't depend on which thread claimed what
+                    parents[Math.max(first, second)] = Math.min(first, second);
+                }
+            }
+        }
+        int[] clusters = new int[count];
+        for (int index = 0; index < count; index++) {
+            clusters[index] = find(parents, owners.get(index));
+        }
+        return clusters;
+    }
+
+    private void claim(int seed, AtomicIntegerArray owners, Queue<LongSet> links) {
+        if (!owners.compareAndSet(seed, UNCLAIMED, seed)) {
+            //Already claimed by another search
+            return;
+        }
+        LongSet ownerLinks = null;
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        queue.enqueue(seed);
+        while (!queue.isEmpty()) {
+            int index = queue.dequeueInt();
+            int start = index * EnumUtils.DIRECTIONS.length;
+            for (int i = start, end = start + EnumUtils.DIRECTIONS.length; i < end; i++) {
+                int neighbor = neighbors[i];
+                if (neighbor != NO_NEIGHBOR) {
+                    if (owners.compareAndSet(neighbor, UNCLAIMED, seed)) {
+                        queue.enqueue(neighbor);
+                    } else {
+                        int owner = owners.get(neighbor);
+                        if (owner != seed) {
+                            if (ownerLinks == null) {
+                                ownerLinks = new LongOpenHashSet();
+                            }
+                            ownerLinks.add((long) seed << 32 | owner);
+                        }
+                    }
+                }
+            }
+        }
+        if (ownerLinks != null) {
+            links.add(ownerLinks);
+        }
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
+    void assignCluster(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> startPoint, IntList cluster, Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters,
+          Set<DynamicNetwork<?, ?, ?>> networksToChange) {
+        CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator = startPoint.getNewOrphanValidator();
+        if (!transmitterValidator.canUseClusterFastPath()) {
+            //Let the orphan path finder handle these clusters the same as it would otherwise
+            for (int index : cluster) {
+                Transmitter<?, ?, ?> orphan = orphans.get(index);
+                if (orphan.isValid() && orphan.isOrphan()) {
+                    networksToChange.add(new OrphanPathFinder<>(orphan).getNetworkFromOrphan(orphanTransmitters));
+                }
+            }
+            return;
+        }
+        Set<TRANSMITTER> newTransmitters = new ObjectOpenHashSet<>(cluster.size());
+        Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
+        for (int index : cluster) {
+            Transmitter<?, ?, ?> orphan = orphans.get(index);
+            orphan.setOrphan(false);
+            newTransmitters.add((TRANSMITTER) orphan);
+            List<Transmitter<?, ?, ?>> connected = connectedTransmitters.get(index);
+            if (connected != null) {
+                for (Transmitter<?, ?, ?> transmitter : connected) {
+                    //Note: We look up the network now rather than when taking the snapshot, as assigning a previous cluster may have merged it into another network
+                    NETWORK net = (NETWORK) transmitter.getTransmitterNetwork();
+                    if (net != null && transmitterValidator.isNetworkCompatible(net)) {
+                        networksFound.add(net);
+                    }
+                }
+            }
+        }
+        NETWORK network;
+        if (networksFound.size() == 1) {
+            network = networksFound.iterator().next();
+        } else {
+            network = startPoint.createNetworkByMerging(networksFound);
+        }
+        network.addNewTransmitters(newTransmitters, transmitterValidator);
+        networksToChange.add(network);
+    }
+}
@@ -4,20 +4,24 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.content.transporter.TransporterTransitSync;
+import mekanism.common.lib.transmitter.acceptor.AcceptorDemandCache;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -79,6 +83,7 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        AcceptorDemandCache.clearChangedPositions();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -126,14 +131,21 @@ public class TransmitterNetworkRegistry {
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         handleChangedChunks();
-        removeInvalidTransmitters();
-        assignOrphans();
-        commitChanges();
+        if (MekanismAPI.debug) {
+            applyChangesTimed();
+        } else {
+            removeInvalidTransmitters();
+            assignOrphans();
+            commitChanges();
+        }
         if (event.getServer().tickRateManager().runsNormally()) {
             for (DynamicNetwork<?, ?, ?> net : networks) {
                 net.onUpdate();
             }
         }
+        //Send the changes to stacks in transporters that happened this tick, now that nothing else will be changing them
+        TransporterTransitSync.flush();
+        AcceptorDemandCache.clearChangedPositions();
     }
 
     @SubscribeEvent
@@ -220,14 +232,30 @@ public class TransmitterNetworkRegistry {
         }
     }
 
-    private void assignOrphans() {
-        if (!newOrphanTransmitters.isEmpty()) {
-            Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
-            newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
-            if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
-            }
+    /**
+     * @return The number of orphans that were assigned.
+     */
+    private int assignOrphans() {
+        if (newOrphanTransmitters.isEmpty()) {
+            return 0;
+        }
+        Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
+        newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+        }
 
+        if (MekanismConfig.general.parallelOrphanAssignment.get()) {
+            Map<Level, OrphanClusterFinder> finders = new Object2ObjectOpenHashMap<>();
+            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
+                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                    finders.computeIfAbsent(orphanTransmitter.getLevel(), OrphanClusterFinder::new).addOrphan(orphanTransmitter);
+                }
+            }
+            for (OrphanClusterFinder finder : finders.values()) {
+                finder.assignOrphans(orphanTransmitters, networksToChange);
+            }
+        } else {
             for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
                     OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
@@ -235,15 +263,38 @@ public class TransmitterNetworkRegistry {
                 }
             }
         }
+        return orphanTransmitters.size();
     }
 
-    private void commitChanges() {
-        if (!networksToChange.isEmpty()) {
-            Set<DynamicNetwork<?, ?, ?>> networks = networksToChange;
-            networksToChange = new ObjectOpenHashSet<>();
-            for (DynamicNetwork<?, ?, ?> network : networks) {
-                network.commit();
-            }
+    /**
+     * @return The number of networks that had changes committed.
+     */
+    private int commitChanges() {
+        if (networksToChange.isEmpty()) {
+            return 0;
+        }
+        Set<DynamicNetwork<?, ?, ?>> networks = networksToChange;
+        networksToChange = new ObjectOpenHashSet<>();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            network.commit();
+        }
+        return networks.size();
+    }
+
+    /**
+     * Removes invalid transmitters, assigns orphans and commits the changes the same as when not in debug mode, and logs how long each of those steps took.
+     */
+    private void applyChangesTimed() {
+        long start = System.nanoTime();
+        removeInvalidTransmitters();
+        long invalidated = System.nanoTime();
+        int orphans = assignOrphans();
+        long assigned = System.nanoTime();
+        int committed = commitChanges();
+        long end = System.nanoTime();
+        if (orphans > 0 || committed > 0) {
+            Mekanism.logger.info("Transmitter network changes took {}ms to remove invalid transmitters, {}ms to assign {} orphans, and {}ms to commit {} networks",
+                  (invalidated - start) / 1_000_000D, (assigned - invalidated) / 1_000_000D, orphans, (end - assigned) / 1_000_000D, committed);
         }
     }
 
@@ -268,8 +319,8 @@ public class TransmitterNetworkRegistry {
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
         private final TRANSMITTER startPoint;
         private final Level world;
 
@@ -281,13 +332,13 @@ public class TransmitterNetworkRegistry {
 
         NETWORK getNetworkFromOrphan(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters) {
             //Calculate the network
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.getBlockPos());
-            while (queue.peek() != null) {
-                iterate(orphanTransmitters, queue.removeFirst());
+            queue.enqueue(startPoint.getWorldPositionLong());
+            while (!queue.isEmpty()) {
+                iterate(orphanTransmitters, queue.dequeueLong());
             }
             //Create the network or grab the found ones
             NETWORK network;
@@ -311,8 +362,9 @@ public class TransmitterNetworkRegistry {
             return network;
         }
 
-        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
-            if (iterated.add(from)) {
+        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, long fromPos) {
+            if (iterated.add(fromPos)) {
+                BlockPos from = BlockPos.of(fromPos);
                 GlobalPos fromCoord = GlobalPos.of(world.dimension(), from);
                 Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
                 if (transmitter != null) {
@@ -322,11 +374,11 @@ public class TransmitterNetworkRegistry {
                         transmitter.setOrphan(false);
                         BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
                         for (Direction direction : EnumUtils.DIRECTIONS) {
-                            directionPos.setWithOffset(from, direction);
-                            if (!iterated.contains(directionPos)) {
-                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
+                            long directionLong = WorldUtils.relativePos(fromPos, direction);
+                            if (!iterated.contains(directionLong)) {
+                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos.set(directionLong));
                                 if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
-                                    queue.addLast(directionPos.immutable());
+                                    queue.enqueue(directionLong);
                                 }
                             }
                         }
@@ -344,4 +396,4 @@ public class TransmitterNetworkRegistry {
             }
         }
     }
-}
\ No newline at end of file
+}
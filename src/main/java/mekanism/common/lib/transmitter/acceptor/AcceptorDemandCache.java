@@ -0,0 +1,98 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import mekanism.common.config.MekanismConfig;
+
+/**
+ * Keeps track of acceptor positions that had no demand when a network last tried to emit to them, so that the network can skip them for a short back-off window
+ * instead of simulating an insertion into every full acceptor every tick.
+ * <p>
+ * Positions are released early when the acceptor's capability is invalidated, or when a tile at that position reports that its contents changed this tick via
+ * {@link #markContentsChanged(long)}.
+ */
+public class AcceptorDemandCache {
+
+    private static final long NOT_BACKED_OFF = -1;
+    /**
+     * Positions of tiles that had their contents change since networks last ticked. This is not keyed by dimension as a collision can at worst cause an acceptor to be
+     * checked again slightly earlier than it otherwise would have been.
+     */
+    private static final LongSet CHANGED_POSITIONS = new LongOpenHashSet();
+
+    /**
+     * Marks that the contents of the tile at the given position changed, which may mean it has room for more again.
+     */
+    public static void markContentsChanged(long pos) {
+        if (MekanismConfig.general.acceptorBackOffTicks.get() > 0) {
+            CHANGED_POSITIONS.add(pos);
+        }
+    }
+
+    /**
+     * Called after all networks have ticked.
+     */
+    public static void clearChangedPositions() {
+        if (!CHANGED_POSITIONS.isEmpty()) {
+            CHANGED_POSITIONS.clear();
+        }
+    }
+
+    private final Long2LongMap backedOffUntil = new Long2LongOpenHashMap();
+    private long ticks;
+
+    public AcceptorDemandCache() {
+        backedOffUntil.defaultReturnValue(NOT_BACKED_OFF);
+    }
+
+    /**
+     * Advances the cache by one emission tick.
+     */
+    public void tick() {
+        ticks++;
+    }
+
+    /**
+     * @return {@code true} if the acceptor at the given position had no demand recently and should be skipped.
+     */
+    public boolean isBackedOff(long pos) {
+        if (backedOffUntil.isEmpty()) {
+            return false;
+        }
+        long until = backedOffUntil.get(pos);
+        if (until == NOT_BACKED_OFF) {
+            return false;
+        } else if (until <= ticks || CHANGED_POSITIONS.contains(pos)) {
+            //The window passed, or the acceptor may have room again, remove it, so we check it again
+            backedOffUntil.remove(pos);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks the acceptor at the given position as having no demand, so it gets skipped until the back-off window passes or it gets reset.
+     */
+    public void backOff(long pos) {
+        int backOffTicks = MekanismConfig.general.acceptorBackOffTicks.get();
+        if (backOffTicks > 0) {
+            backedOffUntil.put(pos, ticks + backOffTicks);
+        }
+    }
+
+    public void reset(long pos) {
+        if (!backedOffUntil.isEmpty()) {
+            backedOffUntil.remove(pos);
+        }
+    }
+
+    public void clear() {
+        backedOffUntil.clear();
+    }
+
+    public int size() {
+        return backedOffUntil.size();
+    }
+}
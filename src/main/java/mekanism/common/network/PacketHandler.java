@@ -9,6 +9,7 @@ import mekanism.common.network.to_client.PacketLightningRender;
 import mekanism.common.network.to_client.PacketPortalFX;
 import mekanism.common.network.to_client.PacketSetDeltaMovement;
 import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTileDelta;
 import mekanism.common.network.to_client.configuration.SyncAllSecurityData;
 import mekanism.common.network.to_client.container.PacketUpdateContainer;
 import mekanism.common.network.to_client.player_data.PacketPlayerData;
@@ -21,8 +22,8 @@ import mekanism.common.network.to_client.security.PacketSyncSecurity;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
-import mekanism.common.network.to_client.transmitter.PacketTransporterBatch;
 import mekanism.common.network.to_client.transmitter.PacketTransporterSync;
+import mekanism.common.network.to_client.transmitter.PacketTransporterTransit;
 import mekanism.common.network.to_server.PacketAddTrusted;
 import mekanism.common.network.to_server.PacketDropperUse;
 import mekanism.common.network.to_server.PacketGearStateUpdate;
@@ -36,6 +37,7 @@ import mekanism.common.network.to_server.PacketOpenGui;
 import mekanism.common.network.to_server.PacketPortableTeleporterTeleport;
 import mekanism.common.network.to_server.PacketRadialModeChange;
 import mekanism.common.network.to_server.PacketRemoveModule;
+import mekanism.common.network.to_server.PacketRequestTileUpdate;
 import mekanism.common.network.to_server.PacketUpdateModuleSettings;
 import mekanism.common.network.to_server.PacketWindowSelect;
 import mekanism.common.network.to_server.button.PacketEntityButtonPress;
@@ -105,6 +107,7 @@ public class PacketHandler extends BasePacketHandler {
         registrar.play(PacketPortableTeleporterTeleport.TYPE, PacketPortableTeleporterTeleport.STREAM_CODEC);
         registrar.play(PacketRadialModeChange.TYPE, PacketRadialModeChange.STREAM_CODEC);
         registrar.play(PacketRemoveModule.TYPE, PacketRemoveModule.STREAM_CODEC);
+        registrar.play(PacketRequestTileUpdate.TYPE, PacketRequestTileUpdate.STREAM_CODEC);
         registrar.play(PacketUpdateModuleSettings.TYPE, PacketUpdateModuleSettings.STREAM_CODEC);
         registrar.play(PacketWindowSelect.TYPE, PacketWindowSelect.STREAM_CODEC);
 
@@ -154,6 +157,7 @@ public class PacketHandler extends BasePacketHandler {
         showModeChange = registrar.playInstanced(Mekanism.rl("show_mode_change"), (ignored, context) -> MekanismStatusOverlay.INSTANCE.setTimer());
         registrar.play(PacketUpdateContainer.TYPE, PacketUpdateContainer.STREAM_CODEC);
         registrar.play(PacketUpdateTile.TYPE, PacketUpdateTile.STREAM_CODEC);
+        registrar.play(PacketUpdateTileDelta.TYPE, PacketUpdateTileDelta.STREAM_CODEC);
         registrar.play(PacketSetDeltaMovement.TYPE, PacketSetDeltaMovement.STREAM_CODEC);
 
         //QIO
@@ -168,7 +172,7 @@ public class PacketHandler extends BasePacketHandler {
         registrar.play(PacketNetworkScale.TYPE, PacketNetworkScale.STREAM_CODEC);
         registrar.play(PacketChemicalNetworkContents.TYPE, PacketChemicalNetworkContents.STREAM_CODEC);
         registrar.play(PacketFluidNetworkContents.TYPE, PacketFluidNetworkContents.STREAM_CODEC);
-        registrar.play(PacketTransporterBatch.TYPE, PacketTransporterBatch.STREAM_CODEC);
         registrar.play(PacketTransporterSync.TYPE, PacketTransporterSync.STREAM_CODEC);
+        registrar.play(PacketTransporterTransit.TYPE, PacketTransporterTransit.STREAM_CODEC);
     }
 }
\ No newline at end of file
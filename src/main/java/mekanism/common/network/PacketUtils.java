@@ -136,6 +136,13 @@ public class PacketUtils {
         PacketDistributor.sendToPlayersTrackingChunk((ServerLevel) world, new ChunkPos(pos), message);
     }
 
+    /**
+     * @return The players that are tracking the chunk containing the given position.
+     */
+    public static List<ServerPlayer> getPlayersTracking(ServerLevel level, BlockPos pos) {
+        return level.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false);
+    }
+
     /**
      * Based on home {@link PacketDistributor#sendToPlayersTrackingChunk(ServerLevel, ChunkPos, CustomPacketPayload, CustomPacketPayload...)} finds players to send to,
      * without the immutable list.
@@ -0,0 +1,63 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+/**
+ * Tracks how many bytes of tile update packets get sent for each type of tile while debug mode is enabled, and logs the rates once per second.
+ */
+public class TileUpdateStatistics {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+    private static final int LOGGED_TYPES = 10;
+
+    private static final Object2LongOpenHashMap<BlockEntityType<?>> bytesSent = new Object2LongOpenHashMap<>();
+    private static long windowStart;
+
+    private TileUpdateStatistics() {
+    }
+
+    /**
+     * Records update packets having been sent for a tile.
+     *
+     * @param type  Type of the tile.
+     * @param bytes Size of the packet's payload multiplied by how many players it was sent to.
+     */
+    public static void record(BlockEntityType<?> type, long bytes) {
+        if (!MekanismAPI.debug) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (bytesSent.isEmpty()) {
+            windowStart = now;
+        } else if (now - windowStart >= WINDOW) {
+            log(now - windowStart);
+            bytesSent.clear();
+            windowStart = now;
+        }
+        bytesSent.addTo(type, bytes);
+    }
+
+    private static void log(long elapsed) {
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+        List<Object2LongMap.Entry<BlockEntityType<?>>> entries = new ArrayList<>(bytesSent.object2LongEntrySet());
+        entries.sort((a, b) -> Long.compare(b.getLongValue(), a.getLongValue()));
+        long total = 0;
+        for (Object2LongMap.Entry<BlockEntityType<?>> entry : entries) {
+            total += entry.getLongValue();
+        }
+        String perType = entries.stream()
+              .limit(LOGGED_TYPES)
+              .map(entry -> BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(entry.getKey()) + ": " + Math.round(entry.getLongValue() / seconds))
+              .collect(Collectors.joining(", "));
+        Mekanism.logger.info("Tile update packets sent {} bytes/sec ({})", Math.round(total / seconds), perType);
+    }
+}
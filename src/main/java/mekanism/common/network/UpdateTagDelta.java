@@ -0,0 +1,171 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.ShortTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Binary encoding of the changes between two update tags, so that only the parts of a tile's update tag that changed since the last update need to be sent.
+ * <p>
+ * Numeric values are written directly with compact encodings, compounds that are in both tags are written as a delta of their own, and any other values are written
+ * as NBT. Tags produced by {@link #apply(CompoundTag, byte[])} share unchanged values with the tag the delta was applied to, so neither tag should be modified after.
+ */
+public class UpdateTagDelta {
+
+    /**
+     * Marker used in place of a tag type, for values that are written as a delta of the previous compound.
+     */
+    private static final byte NESTED_DELTA = -1;
+
+    private UpdateTagDelta() {
+    }
+
+    /**
+     * Encodes the changes needed to turn the previous tag into the current tag.
+     *
+     * @param previous Tag the receiver already has, or {@code null} to encode the entire current tag.
+     * @param current  Tag to encode.
+     *
+     * @return The encoded changes, or {@code null} if there are no changes.
+     */
+    @Nullable
+    public static byte[] encode(@Nullable CompoundTag previous, CompoundTag current) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            if (!write(buffer, previous == null ? new CompoundTag() : previous, current)) {
+                return null;
+            }
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            return data;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Applies encoded changes to the tag they were encoded against.
+     *
+     * @param previous Tag the changes were encoded against, this will not be modified.
+     * @param data     Changes encoded by {@link #encode(CompoundTag, CompoundTag)}.
+     *
+     * @return A new tag with the changes applied.
+     */
+    public static CompoundTag apply(CompoundTag previous, byte[] data) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+        try {
+            return read(buffer, previous);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static boolean write(FriendlyByteBuf buffer, CompoundTag previous, CompoundTag current) {
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.getAllKeys()) {
+            if (!current.contains(key)) {
+                removed.add(key);
+            }
+        }
+        List<String> changed = new ArrayList<>();
+        for (String key : current.getAllKeys()) {
+            if (!current.get(key).equals(previous.get(key))) {
+                changed.add(key);
+            }
+        }
+        if (removed.isEmpty() && changed.isEmpty()) {
+            return false;
+        }
+        buffer.writeVarInt(removed.size());
+        for (String key : removed) {
+            buffer.writeUtf(key);
+        }
+        buffer.writeVarInt(changed.size());
+        for (String key : changed) {
+            buffer.writeUtf(key);
+            Tag value = current.get(key);
+            if (value instanceof CompoundTag compound && previous.get(key) instanceof CompoundTag previousCompound) {
+                buffer.writeByte(NESTED_DELTA);
+                write(buffer, previousCompound, compound);
+            } else {
+                buffer.writeByte(value.getId());
+                writeValue(buffer, value);
+            }
+        }
+        return true;
+    }
+
+    private static void writeValue(FriendlyByteBuf buffer, Tag value) {
+        switch (value.getId()) {
+            case Tag.TAG_BYTE -> buffer.writeByte(((NumericTag) value).getAsByte());
+            case Tag.TAG_SHORT -> buffer.writeShort(((NumericTag) value).getAsShort());
+            case Tag.TAG_INT -> buffer.writeVarInt(((NumericTag) value).getAsInt());
+            case Tag.TAG_LONG -> buffer.writeVarLong(((NumericTag) value).getAsLong());
+            case Tag.TAG_FLOAT -> buffer.writeFloat(((NumericTag) value).getAsFloat());
+            case Tag.TAG_DOUBLE -> buffer.writeDouble(((NumericTag) value).getAsDouble());
+            default -> {
+                try {
+                    value.write(new ByteBufOutputStream(buffer));
+                } catch (IOException e) {
+                    throw new EncoderException(e);
+                }
+            }
+        }
+    }
+
+    private static CompoundTag read(FriendlyByteBuf buffer, CompoundTag previous) {
+        CompoundTag result = new CompoundTag();
+        for (String key : previous.getAllKeys()) {
+            result.put(key, previous.get(key));
+        }
+        for (int i = 0, removed = buffer.readVarInt(); i < removed; i++) {
+            result.remove(buffer.readUtf());
+        }
+        for (int i = 0, changed = buffer.readVarInt(); i < changed; i++) {
+            String key = buffer.readUtf();
+            byte type = buffer.readByte();
+            if (type == NESTED_DELTA) {
+                result.put(key, read(buffer, previous.getCompound(key)));
+            } else {
+                result.put(key, readValue(buffer, type));
+            }
+        }
+        return result;
+    }
+
+    private static Tag readValue(FriendlyByteBuf buffer, byte type) {
+        return switch (type) {
+            case Tag.TAG_BYTE -> ByteTag.valueOf(buffer.readByte());
+            case Tag.TAG_SHORT -> ShortTag.valueOf(buffer.readShort());
+            case Tag.TAG_INT -> IntTag.valueOf(buffer.readVarInt());
+            case Tag.TAG_LONG -> LongTag.valueOf(buffer.readVarLong());
+            case Tag.TAG_FLOAT -> FloatTag.valueOf(buffer.readFloat());
+            case Tag.TAG_DOUBLE -> DoubleTag.valueOf(buffer.readDouble());
+            default -> {
+                try {
+                    yield TagTypes.getType(type).load(new ByteBufInputStream(buffer), NbtAccounter.unlimitedHeap());
+                } catch (IOException e) {
+                    throw new DecoderException(e);
+                }
+            }
+        };
+    }
+}
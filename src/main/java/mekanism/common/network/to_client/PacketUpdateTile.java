@@ -1,6 +1,7 @@
 package mekanism.common.network.to_client;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
@@ -27,6 +28,21 @@ public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements I
         this(tile.getBlockPos(), tile.getReducedUpdateTag(tile.getLevel().registryAccess()));
     }
 
+    /**
+     * @return Size of this packet's payload in bytes.
+     *
+     * @apiNote This has to encode the update tag, so it should only be used for debugging.
+     */
+    public int size() {
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            STREAM_CODEC.encode(buffer, this);
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
     @NotNull
     @Override
     public CustomPacketPayload.Type<PacketUpdateTile> type() {
@@ -0,0 +1,69 @@
+package mekanism.common.network.to_client;
+
+import io.netty.buffer.ByteBuf;
+import mekanism.common.Mekanism;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.UpdateTagDelta;
+import mekanism.common.network.to_server.PacketRequestTileUpdate;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Update packet for a tile that only contains what changed in the tile's update tag since the previous update the player was sent.
+ *
+ * @param pos              Position of the tile.
+ * @param previousSequence Sequence number of the update the changes are relative to, or {@link #FULL_UPDATE} if the data contains the entire update tag.
+ * @param sequence         Sequence number of this update.
+ * @param data             Changes encoded by {@link UpdateTagDelta}.
+ */
+public record PacketUpdateTileDelta(BlockPos pos, int previousSequence, int sequence, byte[] data) implements IMekanismPacket {
+
+    public static final int FULL_UPDATE = -1;
+
+    public static final CustomPacketPayload.Type<PacketUpdateTileDelta> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tile_delta"));
+    public static final StreamCodec<ByteBuf, PacketUpdateTileDelta> STREAM_CODEC = StreamCodec.composite(
+          BlockPos.STREAM_CODEC, PacketUpdateTileDelta::pos,
+          ByteBufCodecs.VAR_INT, PacketUpdateTileDelta::previousSequence,
+          ByteBufCodecs.VAR_INT, PacketUpdateTileDelta::sequence,
+          ByteBufCodecs.BYTE_ARRAY, PacketUpdateTileDelta::data,
+          PacketUpdateTileDelta::new
+    );
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketUpdateTileDelta> type() {
+        return TYPE;
+    }
+
+    /**
+     * @return Approximate size of this packet's payload in bytes.
+     */
+    public int size() {
+        //Position, both sequence numbers, and the length prefix of the data
+        return Long.BYTES + 3 * Integer.BYTES + data.length;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        Level world = context.player().level();
+        //Only handle the update packet if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
+        if (WorldUtils.isBlockLoaded(world, pos)) {
+            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+            if (tile == null) {
+                Mekanism.logger.warn("Update tile delta packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                      world.dimension().location());
+            } else if (!tile.handleUpdateDelta(previousSequence, sequence, data, world.registryAccess())) {
+                //We don't have the update the changes are relative to, for example because the tile got reloaded, ask the server for the entire update tag
+                PacketUtils.sendToServer(new PacketRequestTileUpdate(pos));
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package mekanism.common.network.to_client.qio;
 
+import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.UUID;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -19,19 +22,31 @@ public class PacketUpdateItemViewer implements IMekanismPacket {
     private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
           UUIDAwareHashedItem.STREAM_CODEC, ByteBufCodecs.VAR_LONG
     );
+    private static final StreamCodec<ByteBuf, Object2LongMap<UUID>> COUNT_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
+          UUIDUtil.STREAM_CODEC, ByteBufCodecs.VAR_LONG
+    );
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = StreamCodec.composite(
           ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
           ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
           ITEM_MAP_CODEC, pkt -> pkt.itemMap,
+          COUNT_MAP_CODEC, pkt -> pkt.countMap,
           PacketUpdateItemViewer::new
     );
 
+    /**
+     * Types the player has not been sent yet, with their full item data.
+     */
     private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    /**
+     * Types the player already knows about, so that only the UUID and the new count need to be sent.
+     */
+    private final Object2LongMap<UUID> countMap;
     private final long countCapacity;
     private final int typeCapacity;
 
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
+    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap, Object2LongMap<UUID> countMap) {
         this.itemMap = itemMap;
+        this.countMap = countMap;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
@@ -45,7 +60,7 @@ public class PacketUpdateItemViewer implements IMekanismPacket {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleUpdate(itemMap, countMap, countCapacity, typeCapacity);
         }
     }
 }
\ No newline at end of file
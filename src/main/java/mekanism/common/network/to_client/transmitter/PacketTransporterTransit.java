@@ -0,0 +1,143 @@
+package mekanism.common.network.to_client.transmitter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.List;
+import java.util.Optional;
+import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterItemIds;
+import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * All the changes to stacks in transit through transporters that a player is tracking that happened during a tick, along with the item types of the stacks that the
+ * player has not been sent yet.
+ */
+public record PacketTransporterTransit(List<ItemType> types, List<TransitBlock> blocks) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketTransporterTransit> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("transporter_transit"));
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterTransit> STREAM_CODEC = StreamCodec.composite(
+          ItemType.STREAM_CODEC.apply(ByteBufCodecs.list()), PacketTransporterTransit::types,
+          TransitBlock.STREAM_CODEC.apply(ByteBufCodecs.list()), PacketTransporterTransit::blocks,
+          PacketTransporterTransit::new
+    );
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketTransporterTransit> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        for (ItemType type : types) {
+            TransporterItemIds.setClientType(type.id(), type.type());
+        }
+        for (TransitBlock block : blocks) {
+            if (PacketUtils.blockEntity(context, block.pos()) instanceof TileEntityLogisticalTransporterBase tile) {
+                LogisticalTransporterBase transporter = tile.getTransmitter();
+                for (TransitStack update : block.updates()) {
+                    transporter.addStack(update.stackId(), update.createClientStack());
+                }
+                for (int i = 0, size = block.deletes().size(); i < size; i++) {
+                    transporter.deleteStack(block.deletes().getInt(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param id   Id that stacks of this type are synced with.
+     * @param type Stack with a size of one of the type.
+     */
+    public record ItemType(int id, ItemStack type) {
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, ItemType> STREAM_CODEC = StreamCodec.composite(
+              ByteBufCodecs.VAR_INT, ItemType::id,
+              ItemStack.STREAM_CODEC, ItemType::type,
+              ItemType::new
+        );
+    }
+
+    /**
+     * @param pos     Position of the transporter.
+     * @param updates Stacks that were added to or moved in the transporter.
+     * @param deletes Ids of stacks that left the transporter.
+     */
+    public record TransitBlock(long pos, List<TransitStack> updates, IntList deletes) {
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, TransitBlock> STREAM_CODEC = StreamCodec.composite(
+              ByteBufCodecs.VAR_LONG, TransitBlock::pos,
+              TransitStack.STREAM_CODEC.apply(ByteBufCodecs.list()), TransitBlock::updates,
+              ByteBufCodecs.VAR_INT.apply(ByteBufCodecs.collection(IntArrayList::new)), TransitBlock::deletes,
+              TransitBlock::new
+        );
+    }
+
+    /**
+     * The synced state of a stack in transit, with the item stored as the id of its type and a count.
+     *
+     * @param itemId Id from {@link TransporterItemIds}, or {@code -1} if the stack is empty.
+     */
+    public record TransitStack(int stackId, @Nullable EnumColor color, int progress, long originalLocation, Path pathType, long next, long prev, int itemId,
+                               int count) {
+
+        private static final StreamCodec<RegistryFriendlyByteBuf, Optional<Long>> OPTIONAL_POS = ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG);
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, TransitStack> STREAM_CODEC = StreamCodec.of((buffer, stack) -> {
+            buffer.writeVarInt(stack.stackId);
+            EnumColor.OPTIONAL_STREAM_CODEC.encode(buffer, Optional.ofNullable(stack.color));
+            buffer.writeVarInt(stack.progress);
+            buffer.writeVarLong(stack.originalLocation);
+            Path.STREAM_CODEC.encode(buffer, stack.pathType);
+            OPTIONAL_POS.encode(buffer, stack.next == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.next));
+            OPTIONAL_POS.encode(buffer, stack.prev == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.prev));
+            //Offset the id by one so that empty stacks can be written as zero
+            buffer.writeVarInt(stack.itemId + 1);
+            if (stack.itemId != -1) {
+                buffer.writeVarInt(stack.count);
+            }
+        }, buffer -> {
+            int stackId = buffer.readVarInt();
+            EnumColor color = EnumColor.OPTIONAL_STREAM_CODEC.decode(buffer).orElse(null);
+            int progress = buffer.readVarInt();
+            long originalLocation = buffer.readVarLong();
+            Path pathType = Path.STREAM_CODEC.decode(buffer);
+            long next = OPTIONAL_POS.decode(buffer).orElse(Long.MAX_VALUE);
+            long prev = OPTIONAL_POS.decode(buffer).orElse(Long.MAX_VALUE);
+            int itemId = buffer.readVarInt() - 1;
+            int count = itemId == -1 ? 0 : buffer.readVarInt();
+            return new TransitStack(stackId, color, progress, originalLocation, pathType, next, prev, itemId, count);
+        });
+
+        /**
+         * Captures the current state of a stack as it should be seen by the transporter at the given position.
+         *
+         * @param tick Current server tick, used to keep the id of the item type from being reassigned before this has been sent.
+         */
+        public static TransitStack create(int stackId, TransporterStack stack, long pos, long tick) {
+            ItemStack itemStack = stack.itemStack;
+            int itemId = itemStack.isEmpty() ? -1 : TransporterItemIds.getId(itemStack, tick);
+            return new TransitStack(stackId, stack.color, stack.progress, stack.originalLocation, stack.getPathType(), stack.getNext(pos), stack.getPrev(pos), itemId,
+                  itemStack.getCount());
+        }
+
+        private TransporterStack createClientStack() {
+            ItemStack itemStack = itemId == -1 ? ItemStack.EMPTY : TransporterItemIds.getClientType(itemId).copyWithCount(count);
+            return TransporterStack.createClient(color, progress, originalLocation, pathType, next, prev, itemStack);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package mekanism.common.network.to_server;
+
+import io.netty.buffer.ByteBuf;
+import mekanism.common.Mekanism;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sent by the client when it received changes to a tile's update tag that are relative to an update it does not have, so that the server resends the entire update.
+ */
+public record PacketRequestTileUpdate(BlockPos pos) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketRequestTileUpdate> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("request_tile_update"));
+    public static final StreamCodec<ByteBuf, PacketRequestTileUpdate> STREAM_CODEC = BlockPos.STREAM_CODEC.map(
+          PacketRequestTileUpdate::new, PacketRequestTileUpdate::pos
+    );
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketRequestTileUpdate> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        if (context.player() instanceof ServerPlayer player && player.level() instanceof ServerLevel level &&
+            level.getChunkSource().chunkMap.isChunkTracked(player, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())) &&
+            PacketUtils.blockEntity(context, pos) instanceof TileEntityUpdateable tile) {
+            tile.sendFullUpdatePacket(player);
+        }
+    }
+}
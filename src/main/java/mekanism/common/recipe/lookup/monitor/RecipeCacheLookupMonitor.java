@@ -48,6 +48,17 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
         shouldUnpause = true;
     }
 
+    /**
+     * @return {@code true} if processing would not do anything until something changes, either because there is no recipe for the current inputs or because the
+     * recipe is paused due to errors.
+     */
+    public boolean isIdle() {
+        if (shouldUnpause) {
+            return false;
+        }
+        return cachedRecipe == null ? hasNoRecipe : cachedRecipe.isPausedForErrors();
+    }
+
     /**
      * Helper that wraps {@link #updateAndProcess()} inside of a brief check to calculate how much energy actually got used.
      */
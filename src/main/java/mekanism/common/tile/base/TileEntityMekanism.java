@@ -35,6 +35,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.containers.ContainerType;
@@ -97,6 +98,7 @@ import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
 import mekanism.common.lib.security.BlockSecurityUtils;
 import mekanism.common.lib.security.ISecurityTile;
+import mekanism.common.lib.transmitter.acceptor.AcceptorDemandCache;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.component.ITileComponent;
@@ -130,6 +132,7 @@ import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
@@ -249,6 +252,18 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private TileComponentSecurity securityComponent;
     //End variables ITileSecurity
 
+    //Variables for handling sleeping while idle
+    /**
+     * How many ticks a sleeping tile waits before ticking again anyway, in case something changed that it does not get notified about.
+     */
+    private static final int MAX_SLEEP_TICKS = 5 * SharedConstants.TICKS_PER_SECOND;
+    private boolean sleeping;
+    private int sleepTicks;
+    private long lastChanged = -1;
+    @Nullable
+    private ResourceKey<Level> trackedDimension;
+    //End variables for sleeping while idle
+
     //Variables for handling ITileActive
     private boolean currentActive;
     private int updateDelay;
@@ -618,6 +633,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
         tile.frequencyComponent.tickServer(level, pos);
+        if (tile.sleeping) {
+            if (++tile.sleepTicks < MAX_SLEEP_TICKS && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                return;
+            }
+            //Tick every so often anyway in case something changed that we don't get notified about,
+            // and when recipes get reloaded so that any cached recipes get updated
+            tile.wake();
+        }
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
         }
@@ -661,11 +684,56 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
+        } else if (tile.shouldSleep(level)) {
+            tile.sleeping = true;
+            tile.sleepTicks = 0;
+        }
+    }
+
+    private boolean shouldSleep(Level level) {
+        //Note: We don't sleep if anything changed this tick, as the change may have given us something to do next tick
+        return MekanismConfig.general.sleepIdleMachines.get() && lastChanged != level.getGameTime() && updateDelay == 0 && !hasChunkloader && !canHandleHeat() &&
+               playersUsing.isEmpty() && (!supportsUpgrades() || !upgradeComponent.isCheckingUpgrades()) && canSleep();
+    }
+
+    /**
+     * Checks if this tile has nothing to do, and can stop running {@link #onUpdateServer()} until its contents, redstone state, configuration, or neighbors change.
+     *
+     * @return {@code true} if this tile can sleep.
+     *
+     * @implNote Only return {@code true} if {@link #onUpdateServer()} would not do anything until one of the changes above happens.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if this tile is currently sleeping because it has nothing to do.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping, so that it starts ticking again.
+     */
+    public void wake() {
+        sleeping = false;
+        sleepTicks = 0;
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (!isRemote() && trackedDimension == null) {
+            trackedDimension = level.dimension();
+            TileSleepTracker.onLoad(trackedDimension, this);
         }
     }
 
     public void open(Player player) {
         playersUsing.add(player);
+        wake();
     }
 
     public void close(Player player) {
@@ -675,6 +743,10 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     @Override
     public void setRemoved() {
         super.setRemoved();
+        if (trackedDimension != null) {
+            TileSleepTracker.onUnload(trackedDimension, this);
+            trackedDimension = null;
+        }
         for (ITileComponent component : components) {
             component.invalidate();
         }
@@ -966,6 +1038,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            wake();
             updatePower();
         }
     }
@@ -1082,6 +1155,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             boolean power = level.hasNeighborSignal(getBlockPos());
             if (redstone != power) {
                 redstone = power;
+                wake();
                 onPowerChange();
             }
         }
@@ -1184,9 +1258,23 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return itemHandlerManager != null ? itemHandlerManager.getContainers(side) : Collections.emptyList();
     }
 
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        if (level != null && !isRemote()) {
+            //Covers contents changing, including from capability insertions, as well as configuration changes as they mark the tile for saving
+            lastChanged = level.getGameTime();
+            wake();
+        }
+    }
+
     @Override
     public void onContentsChanged() {
         setChanged();
+        if (canHandleEnergy() && !isRemote()) {
+            //Let any energy networks that stopped inserting into us due to us being full know that we may have room again
+            AcceptorDemandCache.markContentsChanged(worldPosition.asLong());
+        }
     }
 
     public void applyInventorySlots(BlockEntity.DataComponentInput input, List<IInventorySlot> slots, AttachedItems attachedItems) {
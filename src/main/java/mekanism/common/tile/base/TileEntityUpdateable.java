@@ -1,12 +1,21 @@
 package mekanism.common.tile.base;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import mekanism.api.Chunk3D;
+import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateStatistics;
+import mekanism.common.network.UpdateTagDelta;
 import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTileDelta;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -20,9 +29,11 @@ import net.minecraft.nbt.NbtOps;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -38,6 +49,20 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private long lastSave;
     private final long worldPositionLong;
 
+    /**
+     * Last update sent to each player tracking this tile, so that only what changed since then needs to be sent. Only used on the server.
+     */
+    @Nullable
+    private Map<UUID, SentUpdate> sentUpdates;
+    private int updateSequence;
+    /**
+     * Last update tag received through {@link PacketUpdateTileDelta} and its sequence number, which the next changes will be relative to. Only used on the client.
+     */
+    @Nullable
+    private CompoundTag lastUpdateTag;
+    private int lastUpdateSequence;
+    private boolean awaitingFullUpdate;
+
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
         this.worldPositionLong = pos.asLong();
@@ -174,14 +199,121 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
-        } else if (PacketUtils.hasPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos())) {
-            //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
-            // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+        } else {
+            List<ServerPlayer> players = PacketUtils.getPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos());
+            if (!players.isEmpty()) {
+                //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
+                // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
+                // does not need to and should not be redrawn
+                CompoundTag updateTag = getReducedUpdateTag(getWorldNN().registryAccess());
+                if (sendsUpdateDeltas()) {
+                    sendUpdateDeltas(players, updateTag);
+                } else {
+                    PacketUpdateTile packet = new PacketUpdateTile(getBlockPos(), updateTag);
+                    for (ServerPlayer player : players) {
+                        PacketDistributor.sendToPlayer(player, packet);
+                    }
+                    if (MekanismAPI.debug) {
+                        TileUpdateStatistics.record(getType(), (long) packet.size() * players.size());
+                    }
+                }
+            }
         }
     }
 
+    /**
+     * Whether update packets for this tile only contain what changed in the update tag since the previous update each player was sent. Tiles that need to send their
+     * entire update tag every time can override this to send it as NBT instead.
+     */
+    protected boolean sendsUpdateDeltas() {
+        return true;
+    }
+
+    private void sendUpdateDeltas(List<ServerPlayer> players, CompoundTag updateTag) {
+        SentUpdate update = new SentUpdate(++updateSequence, updateTag);
+        Map<UUID, SentUpdate> previousUpdates = sentUpdates == null ? Map.of() : sentUpdates;
+        //Only keep track of the players that are currently tracking this tile
+        sentUpdates = new Object2ObjectOpenHashMap<>(players.size());
+        //Players have normally all been sent the same previous update, so we only have to calculate the changes once for each previous update
+        Reference2ObjectMap<SentUpdate, PacketUpdateTileDelta> packets = new Reference2ObjectArrayMap<>();
+        long bytes = 0;
+        for (ServerPlayer player : players) {
+            UUID uuid = player.getUUID();
+            SentUpdate previous = previousUpdates.get(uuid);
+            PacketUpdateTileDelta packet;
+            if (packets.containsKey(previous)) {
+                packet = packets.get(previous);
+            } else {
+                packet = createUpdateDelta(previous, update);
+                packets.put(previous, packet);
+            }
+            if (packet != null) {
+                PacketDistributor.sendToPlayer(player, packet);
+                sentUpdates.put(uuid, update);
+                bytes += packet.size();
+            } else if (previous != null) {
+                //Nothing changed since the previous update the player was sent
+                sentUpdates.put(uuid, previous);
+            }
+        }
+        if (bytes > 0) {
+            TileUpdateStatistics.record(getType(), bytes);
+        }
+    }
+
+    @Nullable
+    private PacketUpdateTileDelta createUpdateDelta(@Nullable SentUpdate previous, SentUpdate update) {
+        byte[] data = UpdateTagDelta.encode(previous == null ? null : previous.tag(), update.tag());
+        if (data == null) {
+            return null;
+        }
+        return new PacketUpdateTileDelta(getBlockPos(), previous == null ? PacketUpdateTileDelta.FULL_UPDATE : previous.sequence(), update.sequence(), data);
+    }
+
+    /**
+     * Sends the entire update tag to the given player, for when the player doesn't have the update that the changes we send are relative to.
+     */
+    public void sendFullUpdatePacket(ServerPlayer player) {
+        if (isRemoved()) {
+            return;
+        }
+        SentUpdate update = new SentUpdate(++updateSequence, getReducedUpdateTag(player.level().registryAccess()));
+        PacketUpdateTileDelta packet = createUpdateDelta(null, update);
+        if (packet != null) {
+            if (sentUpdates == null) {
+                sentUpdates = new Object2ObjectOpenHashMap<>();
+            }
+            sentUpdates.put(player.getUUID(), update);
+            PacketDistributor.sendToPlayer(player, packet);
+            TileUpdateStatistics.record(getType(), packet.size());
+        }
+    }
+
+    /**
+     * Handles an update packet that only contains what changed in the update tag since a previous update.
+     *
+     * @return {@code false} if the changes are relative to an update this tile did not receive, and the entire update tag needs to be requested from the server.
+     */
+    public boolean handleUpdateDelta(int previousSequence, int sequence, byte[] data, @NotNull HolderLookup.Provider provider) {
+        CompoundTag previous;
+        if (previousSequence == PacketUpdateTileDelta.FULL_UPDATE) {
+            previous = new CompoundTag();
+            awaitingFullUpdate = false;
+        } else if (lastUpdateTag != null && previousSequence == lastUpdateSequence) {
+            previous = lastUpdateTag;
+        } else if (awaitingFullUpdate) {
+            //We already requested the entire update tag, ignore any changes the server sent before it received the request
+            return true;
+        } else {
+            awaitingFullUpdate = true;
+            return false;
+        }
+        lastUpdateTag = UpdateTagDelta.apply(previous, data);
+        lastUpdateSequence = sequence;
+        handleUpdatePacket(lastUpdateTag, provider);
+        return true;
+    }
+
     protected void updateModelData() {
         requestModelDataUpdate();
         WorldUtils.updateBlock(getLevel(), getBlockPos(), getBlockState());
@@ -225,4 +357,7 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         BlockPos pos = this.getBlockPos();
         return new Chunk3D(this.getLevel().dimension(), SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
     }
-}
\ No newline at end of file
+
+    private record SentUpdate(int sequence, CompoundTag tag) {
+    }
+}
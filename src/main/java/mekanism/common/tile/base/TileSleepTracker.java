@@ -0,0 +1,57 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+/**
+ * Keeps track of the loaded {@link TileEntityMekanism}s in each dimension, so that it can be reported how many of them are sleeping because they have nothing to do,
+ * and how many are still ticking.
+ *
+ * @apiNote Only used on the server, and only loading and unloading is tracked here as tiles may be woken up by networks that are being ticked concurrently.
+ */
+public class TileSleepTracker {
+
+    private static final Map<ResourceKey<Level>, Set<TileEntityMekanism>> loadedTiles = new LinkedHashMap<>();
+
+    private TileSleepTracker() {
+    }
+
+    static void onLoad(ResourceKey<Level> dimension, TileEntityMekanism tile) {
+        loadedTiles.computeIfAbsent(dimension, d -> new ReferenceOpenHashSet<>()).add(tile);
+    }
+
+    static void onUnload(ResourceKey<Level> dimension, TileEntityMekanism tile) {
+        Set<TileEntityMekanism> tiles = loadedTiles.get(dimension);
+        if (tiles != null && tiles.remove(tile) && tiles.isEmpty()) {
+            loadedTiles.remove(dimension);
+        }
+    }
+
+    /**
+     * @return The counts of sleeping and active tiles for each dimension that has any loaded.
+     */
+    public static Map<ResourceKey<Level>, SleepCounts> getCounts() {
+        Map<ResourceKey<Level>, SleepCounts> counts = new LinkedHashMap<>();
+        for (Map.Entry<ResourceKey<Level>, Set<TileEntityMekanism>> entry : loadedTiles.entrySet()) {
+            int sleeping = 0;
+            for (TileEntityMekanism tile : entry.getValue()) {
+                if (tile.isSleeping()) {
+                    sleeping++;
+                }
+            }
+            counts.put(entry.getKey(), new SleepCounts(sleeping, entry.getValue().size() - sleeping));
+        }
+        return counts;
+    }
+
+    public static void reset() {
+        loadedTiles.clear();
+    }
+
+    public record SleepCounts(int sleeping, int active) {
+    }
+}
@@ -74,6 +74,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
 
     private final Map<TransmissionType, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>>> capabilityCaches = new EnumMap<>(TransmissionType.class);
     private final Map<Direction, BlockEnergyCapabilityCache> energyCapabilityCache = new EnumMap<>(Direction.class);
+    private final Map<TransmissionType, EjectionPlan> ejectionPlans = new EnumMap<>(TransmissionType.class);
 
     private final Function<LogisticalTransporterBase, EnumColor> outputColorFunction;
     private final EnumColor[] inputColors = new EnumColor[EnumUtils.SIDES.length];
@@ -159,6 +160,30 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * @return {@code true} if none of the containers that are configured to eject have anything in them, meaning {@link #tickServer()} would not do anything.
+     */
+    public boolean hasNothingToEject() {
+        for (TransmissionType type : EnumUtils.TRANSMISSION_TYPES) {
+            if (type == TransmissionType.HEAT) {
+                continue;
+            }
+            ConfigInfo info = configInfo.get(type);
+            if (info != null && isEjecting(info, type)) {
+                Direction facing = tile.facingSupplier.get();
+                for (DataType dataType : info.getSupportedDataTypes()) {
+                    if (dataType.canOutput()) {
+                        ISlotInfo slotInfo = info.getSlotInfo(dataType);
+                        if (slotInfo != null && !slotInfo.isEmpty() && !getSidesForData(info, facing, dataType).isEmpty()) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
         Set<Direction> directions = outputData.get(container);
         if (directions == null) {
@@ -173,38 +198,61 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
      * @apiNote Ensure that it can eject before calling this method.
      */
     private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
-        //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;//todo what is the point of putting it into a map??
+        EjectionPlan plan = ejectionPlans.get(type);
+        if (plan == null || plan.changeCount != info.getChangeCount() || plan.facing != facing) {
+            plan = createPlan(type, facing, info);
+            ejectionPlans.put(type, plan);
+        }
+        for (int i = 0, size = plan.containers.length; i < size; i++) {
+            switch (type) {
+                case CHEMICAL -> {
+                    IChemicalTank tank = (IChemicalTank) plan.containers[i];
+                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
+                        ChemicalUtil.emit(plan.getTargets(i), tank, chemicalEjectRate.getAsLong());
+                    }
+                }
+                case FLUID -> {
+                    IExtendedFluidTank tank = (IExtendedFluidTank) plan.containers[i];
+                    if (!tank.isEmpty()) {
+                        FluidUtils.emit(plan.getTargets(i), tank, fluidEjectRate.getAsInt());
+                    }
+                }
+                case ENERGY -> {
+                    IEnergyContainer container = (IEnergyContainer) plan.containers[i];
+                    if (!container.isEmpty()) {
+                        CableUtils.emit(plan.getTargets(i), container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates which containers output to which sides for the given type, and looks up the capability caches for those sides.
+     */
+    private EjectionPlan createPlan(TransmissionType type, Direction facing, ConfigInfo info) {
+        //Used to keep track of tanks to what sides they output to, we use an identity hashmap to allow for cheaper compare checks
+        Map<Object, Set<Direction>> outputData = new IdentityHashMap<>();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
-                if (slotInfo != null && !slotInfo.isEmpty()) {//Only bother getting caps if the containers are not empty
+                if (slotInfo != null) {
                     Set<Direction> outputSides = getSidesForData(info, facing, dataType);
                     if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData, we use an identity hashmap to allow for cheaper compare checks
-                            outputData = new IdentityHashMap<>();
-                        }
                         switch (slotInfo) {
                             case ChemicalSlotInfo chemicalSlotInfo when type == TransmissionType.CHEMICAL -> {
                                 for (IChemicalTank tank : chemicalSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> {
                                 for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty()) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> {
                                 for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                    if (!container.isEmpty()) {
-                                        addData(outputData, container, outputSides);
-                                    }
+                                    addData(outputData, container, outputSides);
                                 }
                             }
                             default -> {
@@ -214,24 +262,20 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
+        Object[] containers = new Object[outputData.size()];
+        List<?>[] targets = new List<?>[containers.length];
+        if (!outputData.isEmpty()) {
             ServerLevel level = (ServerLevel) tile.getLevel();
             BlockPos pos = tile.getBlockPos();
             Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+            int index = 0;
             for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
                 Set<Direction> sides = entry.getValue();
-                switch (type) {
-                    case CHEMICAL -> {
-                        IChemicalTank tank = (IChemicalTank) entry.getKey();
-                        List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
-                        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
-                    }
-                    case FLUID -> {
-                        List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                        FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
-                    }
+                containers[index] = entry.getKey();
+                targets[index++] = switch (type) {
+                    case CHEMICAL -> getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
+                    case FLUID -> getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
                     case ENERGY -> {
-                        IEnergyContainer container = (IEnergyContainer) entry.getKey();
                         List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
                         for (Direction side : sides) {
                             BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
@@ -241,11 +285,13 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                             }
                             caches.add(cache);
                         }
-                        CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
+                        yield caches;
                     }
-                }
+                    default -> List.of();
+                };
             }
         }
+        return new EjectionPlan(info.getChangeCount(), facing, containers, targets);
     }
 
     @SuppressWarnings("unchecked")
@@ -540,6 +586,23 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    /**
+     * The containers that can eject a given type, and the capability caches of the sides each of them outputs to. Plans are kept until the side config, slot info, or
+     * facing of the tile changes, so that ejecting every tick doesn't have to recalculate them.
+     *
+     * @param changeCount The {@link ConfigInfo#getChangeCount() change count} of the config this plan was created from.
+     * @param facing      The facing of the tile when this plan was created.
+     * @param containers  The containers to eject from.
+     * @param targets     The capability caches to eject to, for the container with the same index.
+     */
+    private record EjectionPlan(int changeCount, Direction facing, Object[] containers, List<?>[] targets) {
+
+        @SuppressWarnings("unchecked")
+        private <TARGET> List<TARGET> getTargets(int index) {
+            return (List<TARGET>) targets[index];
+        }
+    }
+
     private static class EjectTransitRequest extends HandlerTransitRequest {
 
         public IItemHandler handler;
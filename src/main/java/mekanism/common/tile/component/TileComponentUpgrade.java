@@ -95,6 +95,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * @return {@code true} if the upgrade slot has changed since it was last checked, or an upgrade in it is still being installed.
+     */
+    public boolean isCheckingUpgrades() {
+        return canCheckUpgrades;
+    }
+
     public UpgradeInventorySlot getUpgradeSlot() {
         return upgradeSlot;
     }
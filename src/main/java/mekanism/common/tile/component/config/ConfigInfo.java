@@ -33,6 +33,10 @@ public class ConfigInfo implements IPersistentConfigInfo {
     private Set<RelativeSide> disabledSides;
     @Nullable
     private Set<DataType> supportedDataTypes;
+    /**
+     * Incremented whenever the side config or the slot info changes, so that things derived from them can tell when they need to be recalculated.
+     */
+    private int changeCount;
 
     public ConfigInfo() {
         canEject = true;
@@ -70,6 +74,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
             disabledSides.add(side);
             sideConfig.put(side, DataType.NONE);
         }
+        changeCount++;
     }
 
     public boolean isSideEnabled(@NotNull RelativeSide side) {
@@ -90,7 +95,18 @@ public class ConfigInfo implements IPersistentConfigInfo {
     }
 
     public boolean setDataType(@NotNull DataType dataType, @NotNull RelativeSide side) {
-        return isSideEnabled(side) && sideConfig.put(side, dataType) != dataType;
+        if (isSideEnabled(side) && sideConfig.put(side, dataType) != dataType) {
+            changeCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return A counter that changes whenever the data type of a side or the slot info changes.
+     */
+    public int getChangeCount() {
+        return changeCount;
     }
 
     @NotNull
@@ -118,6 +134,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
 
     public void addSlotInfo(@NotNull DataType dataType, @NotNull ISlotInfo info) {
         slotInfo.put(dataType, info);
+        changeCount++;
         if (supportedDataTypes != null) {
             supportedDataTypes.add(dataType);
         }
@@ -156,6 +173,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
         if (isSideEnabled(relativeSide)) {
             DataType newType = current.getNext(this::supports);
             sideConfig.put(relativeSide, newType);
+            changeCount++;
             return newType;
         }
         return current;
@@ -170,6 +188,7 @@ public class ConfigInfo implements IPersistentConfigInfo {
         if (isSideEnabled(relativeSide)) {
             DataType newType = current.getPrevious(this::supports);
             sideConfig.put(relativeSide, newType);
+            changeCount++;
             return newType;
         }
         return current;
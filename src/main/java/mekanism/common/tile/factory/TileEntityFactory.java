@@ -263,6 +263,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         return sendUpdatePacket;
     }
 
+    @Override
+    protected boolean canSleep() {
+        if (sortingNeeded && isSorting() || !ejectorComponent.hasNothingToEject()) {
+            return false;
+        }
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            if (!cacheLookupMonitor.isIdle()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if the cached recipe (or recipe for current factory if the cache is out of date) can produce a specific output.
      *
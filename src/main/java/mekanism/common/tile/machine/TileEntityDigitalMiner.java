@@ -2,13 +2,10 @@ package mekanism.common.tile.machine;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
-import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -40,9 +37,10 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerQueue;
 import mekanism.common.content.miner.MinerRegionCache;
-import mekanism.common.content.miner.ThreadMinerSearch;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch;
+import mekanism.common.content.miner.MinerSearch.State;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
@@ -120,8 +118,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
-    private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
-    public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    private MinerQueue oresToMine = new MinerQueue();
+    public MinerSearch search = new MinerSearch(this);
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> pullInventory;
@@ -225,9 +223,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         boolean sendUpdatePacket = super.onUpdateServer();
         closeInvalidScreens();
         if (!initCalc) {
-            //If it had finished searching, and we didn't initialize things yet,
+            //If it had finished searching, and we didn't initialize things yet, and we don't have the blocks it found saved,
             // reset it and start running again if needed. This happens after saving the miner to disk
-            if (searcher.state == State.FINISHED) {
+            if (search.state == State.FINISHED && oresToMine.isEmpty()) {
                 boolean prevRunning = running;
                 reset();
                 start();
@@ -247,7 +245,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         }
 
         //Note: If we have any overflow don't function or use any energy until the overflow has been dealt with
-        if (!hasOverflow && canFunction() && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+        if (!hasOverflow && canFunction() && running && search.state == State.FINISHED && !oresToMine.isEmpty()) {
             long energyPerTick = energyContainer.getEnergyPerTick();
             if (energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL) == energyPerTick) {
                 setActive(true);
@@ -296,7 +294,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return sendUpdatePacket;
     }
 
-    public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
+    public void updateFromSearch(MinerQueue oresToMine, int found) {
         this.oresToMine = oresToMine;
         cachedToMine = found;
         updateTargetChunk(null);
@@ -441,105 +439,70 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     private void tryMineBlock() {
-        BlockPos startingPos = getStartingPos();
-        int diameter = getDiameter();
         long target = targetChunk == null ? ChunkPos.INVALID_CHUNK_POS : targetChunk.toLong();
-        for (ObjectIterator<Long2ObjectMap.Entry<BitSet>> it = oresToMine.long2ObjectEntrySet().iterator(); it.hasNext(); ) {
-            Long2ObjectMap.Entry<BitSet> entry = it.next();
-            long chunk = entry.getLongKey();
-            BitSet chunkToMine = entry.getValue();
-            ChunkPos currentChunk = null;
-            if (target == chunk) {
-                //If our current chunk is the one we are already targeting, just make it reference it, so we don't need to
-                // do any initialization
-                currentChunk = targetChunk;
+        while (!oresToMine.isEmpty()) {
+            long chunk = oresToMine.peekChunk();
+            if (target != chunk) {
+                //Lazy init the current chunk, so that we only load it once we actually are going to mine something in it
+                updateTargetChunk(new ChunkPos(chunk));
+                target = chunk;
             }
-            //Note: We go in reverse order instead of normal order to avoid issues where we break blocks supporting ones
-            // that are affected by gravity and then are unable to break them after they have fallen. The reason we do it
-            // this way instead of changing how the bits are indexed in correspondence with locations in the world is because
-            // it is much more likely for there to be blocks lower down, and this allows us to avoid having to add large indices
-            // to our bitset because of all the small indices having been taken up by air
-            //Length returns the largest set bit + 1, so we subtract one to get the largest set bit as previousSetBit is inclusive,
-            // and if none are set and this becomes -1, previousSetBit will still just return -1
-            int previous = chunkToMine.length() - 1;
-            while (true) {
-                int index = chunkToMine.previousSetBit(previous);
-                if (index == -1) {
-                    //If there is no found index, remove it and continue on
-                    it.remove();
-                    break;
-                } else if (currentChunk == null) {
-                    //Lazy init the current chunk so that if it is empty, and we are just going to remove it
-                    // we don't need to try and load it
-                    updateTargetChunk(currentChunk = new ChunkPos(chunk));
-                    target = chunk;
-                }
-                BlockPos pos = getOffsetForIndex(startingPos, diameter, index);
-                BlockState state = WorldUtils.getBlockStateIfLoaded(level, pos);
-                if (state != null) {
-                    if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
-                        //Make sure the block is loaded and is not air, and is not in the blacklist of blocks the miner can break
-                        // then check if the block matches one of our filters
-                        MinerFilter<?> matchingFilter = null;
-                        for (MinerFilter<?> filter : filterManager.getEnabledFilters()) {
-                            if (filter.canFilter(state)) {
-                                matchingFilter = filter;
-                                break;
-                            }
+            //Note: The queue gives us positions from the top of the chunk down, and resumes from the last position it gave us
+            BlockPos pos = oresToMine.peek();
+            BlockState state = WorldUtils.getBlockStateIfLoaded(level, pos);
+            if (state != null) {
+                if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
+                    //Make sure the block is loaded and is not air, and is not in the blacklist of blocks the miner can break
+                    // then check if the block matches one of our filters
+                    MinerFilter<?> matchingFilter = null;
+                    for (MinerFilter<?> filter : filterManager.getEnabledFilters()) {
+                        if (filter.canFilter(state)) {
+                            matchingFilter = filter;
+                            break;
                         }
-                        //If our hasFilter state matches our inversion state, that means we should try to mine
-                        // the block, so we check if we can mine it
-                        if (inverse == (matchingFilter == null) && canMine(state, pos)) {
-                            //If we can, then validate we can fit the drops and try to see if we can replace it properly as well
-                            List<ItemStack> drops = getDrops((ServerLevel) level, state, pos);
-                            if (canInsert(drops)) {
-                                CommonWorldTickHandler.fallbackItemCollector = overflowCollector;
-                                if (setReplace(state, pos, matchingFilter)) {
-                                    add(drops);
-                                    //Try to add any drops that might have been caused by breaking the block but didn't show up in the loot table.
-                                    // This mainly will be the case for some single block multiblocks and also for storage containers like chests
-                                    tryAddOverflow();
-                                    missingStack = ItemStack.EMPTY;
-                                    level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(state));
-                                    //Remove the block from our list of blocks to mine, and reduce the number of blocks we have to mine
-                                    cachedToMine--;
-                                    chunkToMine.clear(index);
-                                    if (chunkToMine.isEmpty()) {
-                                        // if we are out of stored elements then we remove this chunk and continue to check other chunks
-                                        // remove it so that we don't have to check the chunk next time around
-                                        it.remove();
-                                        // we no longer have a chunk we are targeting, so remove it. We might get a new chunk to target
-                                        // next time we try to mine but there is no reason to keep the old chunk in memory in the meantime
-                                        updateTargetChunk(null);
-                                    }
+                    }
+                    //If our hasFilter state matches our inversion state, that means we should try to mine
+                    // the block, so we check if we can mine it
+                    if (inverse == (matchingFilter == null) && canMine(state, pos)) {
+                        //If we can, then validate we can fit the drops and try to see if we can replace it properly as well
+                        List<ItemStack> drops = getDrops((ServerLevel) level, state, pos);
+                        if (canInsert(drops)) {
+                            CommonWorldTickHandler.fallbackItemCollector = overflowCollector;
+                            if (setReplace(state, pos, matchingFilter)) {
+                                add(drops);
+                                //Try to add any drops that might have been caused by breaking the block but didn't show up in the loot table.
+                                // This mainly will be the case for some single block multiblocks and also for storage containers like chests
+                                tryAddOverflow();
+                                missingStack = ItemStack.EMPTY;
+                                level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(state));
+                                //Remove the block from our list of blocks to mine, and reduce the number of blocks we have to mine
+                                cachedToMine--;
+                                if (oresToMine.remove(pos)) {
+                                    // if we are out of blocks to mine in this chunk, we no longer have a chunk we are targeting, so remove it. We might get
+                                    // a new chunk to target next time we try to mine but there is no reason to keep the old chunk in memory in the meantime
+                                    updateTargetChunk(null);
                                 }
-                                //Reset the global fallback collector to null as we are done collecting for this miner and block
-                                CommonWorldTickHandler.fallbackItemCollector = null;
+                                markForSave();
                             }
-                            //Exit out. We either mined the block or don't have room so there is no reason to continue checking
-                            return;
-                        } else if (MekanismAPI.debug) {
-                            Mekanism.logger.error("Filter failed or can't mine: {} @ {} {}", state, getWorldNN().dimension().location(), pos);
+                            //Reset the global fallback collector to null as we are done collecting for this miner and block
+                            CommonWorldTickHandler.fallbackItemCollector = null;
                         }
+                        //Exit out. We either mined the block or don't have room so there is no reason to continue checking
+                        return;
                     } else if (MekanismAPI.debug) {
-                        Mekanism.logger.error("State was air or was blacklisted (mismatch between search and runtime): {} @ {} {}", state, getWorldNN().dimension().location(), pos);
+                        Mekanism.logger.error("Filter failed or can't mine: {} @ {} {}", state, getWorldNN().dimension().location(), pos);
                     }
                 } else if (MekanismAPI.debug) {
-                    Mekanism.logger.debug("Block was not loaded {} {}", getWorldNN().dimension().location(), pos);
-                }
-                //If we failed to mine the block, because it isn't loaded, is air, or we shouldn't mine it
-                // remove the block from our list of blocks to mine, and reduce the number of blocks we have to mine
-                cachedToMine--;
-                chunkToMine.clear(index);
-                if (chunkToMine.isEmpty()) {
-                    // if we are out of stored elements then we remove this chunk and continue to check other chunks
-                    it.remove();
-                    break;
+                    Mekanism.logger.error("State was air or was blacklisted (mismatch between search and runtime): {} @ {} {}", state, getWorldNN().dimension().location(), pos);
                 }
-                // if we still have elements in this chunk that can potentially be mined, decrement our index
-                // to the previous one and attempt to mine it
-                previous = index - 1;
+            } else if (MekanismAPI.debug) {
+                Mekanism.logger.debug("Block was not loaded {} {}", getWorldNN().dimension().location(), pos);
             }
+            //If we failed to mine the block, because it isn't loaded, is air, or we shouldn't mine it
+            // remove the block from our list of blocks to mine, reduce the number of blocks we have to mine, and try the next one
+            cachedToMine--;
+            oresToMine.remove(pos);
+            markForSave();
         }
         //If we didn't exit early due to actually mining a block that means we don't have a target chunk anymore
         updateTargetChunk(null);
@@ -791,21 +754,21 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         if (getLevel() == null) {
             return;
         }
-        if (searcher.state == State.IDLE) {
+        if (search.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
-            searcher.setChunkCache(new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
-            searcher.start();
+            search.setChunkCache(new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
+            search.start();
         }
         running = true;
         markForSave();
     }
 
     public void stop() {
-        if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+        if (search.state == State.SEARCHING) {
+            search.cancel();
             reset();
-        } else if (searcher.state == State.FINISHED) {
+        } else if (search.state == State.FINISHED) {
             running = false;
             markForSave();
             //Reset the target chunk, so it isn't loaded as we might don't want to let the user just have two chunks loaded
@@ -815,13 +778,13 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        if (searcher != null && searcher.isAlive()) {
-            searcher.interrupt();
+        if (search != null && search.state == State.SEARCHING) {
+            search.cancel();
         }
-        searcher = new ThreadMinerSearch(this);
+        search = new MinerSearch(this);
         running = false;
         cachedToMine = 0;
-        oresToMine = Long2ObjectMaps.emptyMap();
+        oresToMine = new MinerQueue();
         missingStack = ItemStack.EMPTY;
         setActive(false);
         updateTargetChunk(null);
@@ -868,8 +831,13 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                 // pretend we had finished searching so that we will start again on the first tick
                 s = State.FINISHED;
             }
-            searcher.state = s;
+            search.state = s;
         });
+        if (!initCalc && search.state == State.FINISHED && nbt.contains(SerializationConstants.TO_MINE, Tag.TAG_LONG_ARRAY)) {
+            //Restore the blocks we still had to mine, so that we don't have to search again
+            oresToMine = MinerQueue.deserialize(nbt.getLongArray(SerializationConstants.TO_MINE));
+            cachedToMine = oresToMine.size();
+        }
         //Update energy per tick in case any of the values changed. It would be slightly cleaner to also validate the fact
         // the values changed, but it would make the code a decent bit messier, as we couldn't use NBTUtils, and it is a
         // rather quick check to update the energy per tick, and in most cases at least one of the settings will not be at
@@ -883,6 +851,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         super.removeComponentsFromTag(tag);
         tag.remove(SerializationConstants.NUM_POWERING);
         tag.remove(SerializationConstants.STATE);
+        tag.remove(SerializationConstants.TO_MINE);
     }
 
     @Override
@@ -898,7 +867,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         nbtTags.putBoolean(SerializationConstants.RUNNING, running);
         nbtTags.putInt(SerializationConstants.DELAY, delay);
         nbtTags.putInt(SerializationConstants.NUM_POWERING, numPowering);
-        NBTUtils.writeEnum(nbtTags, SerializationConstants.STATE, searcher.state);
+        NBTUtils.writeEnum(nbtTags, SerializationConstants.STATE, search.state);
+        if (search.state == State.FINISHED && !oresToMine.isEmpty()) {
+            nbtTags.put(SerializationConstants.TO_MINE, oresToMine.serialize());
+        }
         if (!overflow.isEmpty()) {
             //Persist any items that are stored as overflow
             nbtTags.put(SerializationConstants.OVERFLOW, OverflowAware.writeOverflow(provider, overflow));
@@ -918,10 +890,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return new BlockPos(getBlockPos().getX() - radius, getMinY(), getBlockPos().getZ() - radius);
     }
 
-    public static BlockPos getOffsetForIndex(BlockPos start, int diameter, int index) {
-        return start.offset(index % diameter, index / diameter / diameter, (index / diameter) % diameter);
-    }
-
     @Override
     public boolean isPowered() {
         return redstone || numPowering > 0;
@@ -1217,7 +1185,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && search.state == State.SEARCHING ? search.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
@@ -1247,7 +1215,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         container.track(SyncableBoolean.create(this::getDoPull, value -> doPull = value));
         container.track(SyncableBoolean.create(this::isRunning, value -> running = value));
         container.track(SyncableBoolean.create(this::getSilkTouch, this::setSilkTouch));
-        container.track(SyncableEnum.create(State.BY_ID, State.IDLE, () -> searcher.state, value -> searcher.state = value));
+        container.track(SyncableEnum.create(State.BY_ID, State.IDLE, () -> search.state, value -> search.state = value));
         container.track(SyncableInt.create(this::getToMine, value -> cachedToMine = value));
         container.track(SyncableItemStack.create(() -> missingStack, value -> missingStack = value));
         container.track(SyncableBoolean.create(this::hasOverflow, value -> hasOverflow = value));
@@ -1322,7 +1290,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the state of the Miner's search")
     State getState() {
-        return searcher.state;
+        return search.state;
     }
 
     @ComputerMethod(requiresPublicSecurity = true, methodDescription = "Update the Auto Eject setting")
@@ -1373,7 +1341,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     private void validateCanChangeConfiguration() throws ComputerException {
         validateSecurityIsPublic();
         //Validate the miner is stopped and reset first
-        if (searcher.state != State.IDLE) {
+        if (search.state != State.IDLE) {
             throw new ComputerException("Miner must be stopped and reset before its targeting configuration is changed.");
         }
     }
@@ -178,6 +178,12 @@ public class TileEntitySolarNeutronActivator extends TileEntityRecipeMachine<Che
         return WorldUtils.canSeeSun(level, worldPosition.above());
     }
 
+    @Override
+    protected boolean canSleep() {
+        //Our production rate depends on the sky and weather, which we don't get notified about changing
+        return false;
+    }
+
     @Override
     public boolean canFunction() {
         // Sort out if the solar neutron activator can see the sun; we no longer check if it's raining here,
@@ -6,9 +6,13 @@ import mekanism.common.block.attribute.Attribute;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
 import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
+import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.prefab.TileEntityInternalMultiblock;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentMap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,4 +42,34 @@ public class TileEntityInductionCell extends TileEntityInternalMultiblock {
     public MachineEnergyContainer<TileEntityInductionCell> getEnergyContainer() {
         return energyContainer;
     }
+
+    /**
+     * Makes sure the energy the matrix this cell is part of has stored gets written back to this cell's energy container.
+     */
+    private void writeBackMatrixEnergy() {
+        if (!isRemote() && getMultiblock() instanceof MatrixMultiblockData matrix) {
+            matrix.getEnergyContainer().writeBack();
+        }
+    }
+
+    @Override
+    public void saveAdditional(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
+        writeBackMatrixEnergy();
+        super.saveAdditional(nbtTags, provider);
+    }
+
+    @Override
+    protected void collectImplicitComponents(@NotNull DataComponentMap.Builder builder) {
+        //Make sure that if the cell is being dropped, it contains the proper amount of energy
+        writeBackMatrixEnergy();
+        super.collectImplicitComponents(builder);
+    }
+
+    @Override
+    public void blockRemoved() {
+        if (!isRemote() && hasFormedMultiblock() && getMultiblock() instanceof MatrixMultiblockData matrix) {
+            matrix.getEnergyContainer().removeInternal(worldPosition);
+        }
+        super.blockRemoved();
+    }
 }
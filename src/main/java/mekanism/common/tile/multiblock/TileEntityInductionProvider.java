@@ -2,6 +2,7 @@ package mekanism.common.tile.multiblock;
 
 import mekanism.api.providers.IBlockProvider;
 import mekanism.common.block.attribute.Attribute;
+import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.prefab.TileEntityInternalMultiblock;
 import net.minecraft.core.BlockPos;
@@ -20,4 +21,12 @@ public class TileEntityInductionProvider extends TileEntityInternalMultiblock {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), InductionProviderTier.class);
     }
+
+    @Override
+    public void blockRemoved() {
+        if (!isRemote() && hasFormedMultiblock() && getMultiblock() instanceof MatrixMultiblockData matrix) {
+            matrix.getEnergyContainer().removeInternal(worldPosition);
+        }
+        super.blockRemoved();
+    }
 }
\ No newline at end of file
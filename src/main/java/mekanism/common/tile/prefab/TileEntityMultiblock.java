@@ -68,6 +68,11 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
     @Nullable
     private UUID cachedID = null;
 
+    /**
+     * Whether this block was removed from a formed structure whose master will check if it gets replaced, instead of the structure being invalidated right away.
+     */
+    private boolean awaitingReplacement;
+
     // start at 100 to make sure we run the animation
     private long unformedTicks = 5 * SharedConstants.TICKS_PER_SECOND;
 
@@ -115,7 +120,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         T multiblock = getMultiblock();
         if (isMaster() && multiblock.isFormed() && multiblock.recheckStructure) {
             multiblock.recheckStructure = false;
-            getStructure().doImmediateUpdate(this, ticker % MekanismUtils.TICKS_PER_HALF_SECOND == 0);
+            getStructure().recheck(this, ticker % MekanismUtils.TICKS_PER_HALF_SECOND == 0);
             multiblock = getMultiblock();
         }
         if (multiblock.isFormed()) {
@@ -224,10 +229,26 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         };
     }
 
+    @Override
+    public void blockRemoved() {
+        super.blockRemoved();
+        if (!isRemote()) {
+            T multiblock = getMultiblock();
+            if (multiblock.isFormed() && multiblock.hasMaster && !isMaster() && structure.getController() != this) {
+                //Let the master check if this block gets replaced by an equivalent one before invalidating the structure,
+                // so that swapping a casing or port doesn't require rebuilding the entire multiblock
+                multiblock.markChanged(worldPosition, getBlockState().getBlock());
+                //Don't keep a reference to this tile in the structure, any replacement gets added back to it when the master rechecks the position
+                structure.removeNode(this);
+                awaitingReplacement = true;
+            }
+        }
+    }
+
     @Override
     public void setRemoved() {
         super.setRemoved();
-        if (!isRemote()) {
+        if (!isRemote() && !awaitingReplacement) {
             structure.invalidate(level);
         }
     }
@@ -355,7 +376,12 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                     // then we mark the structure as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    if (multiblock.hasMaster) {
+                        //Let the master recheck the changed position, so that it can skip rebuilding the structure if it was replaced by an equivalent block
+                        multiblock.markChanged(neighborPos, block);
+                    } else {
+                        getStructure().markForUpdate(level, true);
+                    }
                 }
             }
         }
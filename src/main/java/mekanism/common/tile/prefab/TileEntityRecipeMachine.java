@@ -97,6 +97,11 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe<?>>
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    @Override
+    protected boolean canSleep() {
+        return recipeCacheLookupMonitor.isIdle() && ejectorComponent.hasNothingToEject();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
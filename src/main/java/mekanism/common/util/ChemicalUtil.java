@@ -27,6 +27,7 @@ import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tier.ChemicalTankTier;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.ItemLike;
@@ -143,7 +144,11 @@ public class ChemicalUtil {
 
     public static void emit(Collection<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> targets, IChemicalTank tank, long maxOutput) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(targets, ChemicalStack.EMPTY, tank, maxOutput), Action.EXECUTE, AutomationType.INTERNAL);
+            Holder<Chemical> chemical = tank.getType().getAsHolder();
+            long sent = emit(targets, chemical, 0, tank, maxOutput);
+            if (sent > 0) {
+                tank.extract(chemical, sent, Action.EXECUTE, AutomationType.INTERNAL);
+            }
         }
     }
 
@@ -156,15 +161,15 @@ public class ChemicalUtil {
      * @return the amount of chemical emitted
      */
     public static long emit(Collection<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> targets, @NotNull ChemicalStack stack) {
-        return emit(targets, stack, null, Long.MAX_VALUE);
+        if (stack.isEmpty()) {
+            return 0;
+        }
+        return emit(targets, stack.getChemicalHolder(), stack.getAmount(), null, Long.MAX_VALUE);
     }
 
-    private static long emit(Collection<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> targets, @NotNull ChemicalStack stack,
+    private static long emit(Collection<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> targets, Holder<Chemical> chemical, long amount,
           @UnknownNullability IChemicalTank tank, long maxOutput) {
-        if (stack.isEmpty() && tank == null) {
-            //Something went wrong in calling this method
-            return 0;
-        } else if (targets.isEmpty()) {
+        if (targets.isEmpty()) {
             return 0;
         }
         ChemicalHandlerTarget target = null;
@@ -172,16 +177,16 @@ public class ChemicalUtil {
             //Insert to access side and collect the cap if it is present, and we can insert the type of the stack into it
             IChemicalHandler handler = capability.getCapability();
             if (handler != null) {
-                //If we weren't given a stack by the caller, then we want to lazily try to extract from the tank to see how much we are trying to emit
-                // so that we don't have to attempt an extraction if all our targets are actually not currently fluid handlers
-                if (stack.isEmpty()) {
-                    stack = tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
-                    if (stack.isEmpty()) {
+                //If we weren't given an amount by the caller, then we want to lazily try to extract from the tank to see how much we are trying to emit
+                // so that we don't have to attempt an extraction if all our targets are actually not currently chemical handlers
+                if (amount == 0) {
+                    amount = tank.extract(chemical, maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+                    if (amount == 0) {
                         //If we failed to extract from it, just exit early
                         return 0;
                     }
                 }
-                if (canInsert(handler, stack)) {
+                if (canInsert(handler, chemical, amount)) {
                     if (target == null) {
                         target = new ChemicalHandlerTarget(targets.size());
                     }
@@ -189,11 +194,11 @@ public class ChemicalUtil {
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack.copy());
+        return EmitUtils.sendToAcceptors(target, amount, chemical);
     }
 
-    public static boolean canInsert(IChemicalHandler handler, @NotNull ChemicalStack stack) {
-        return handler.insertChemical(stack, Action.SIMULATE).getAmount() < stack.getAmount();
+    public static boolean canInsert(IChemicalHandler handler, Holder<Chemical> chemical, long amount) {
+        return handler.insertChemical(chemical, amount, Action.SIMULATE) < amount;
     }
 
     public static Chemical chemical(ChemicalBuilder builder, @Nullable Integer colorRepresentation) {
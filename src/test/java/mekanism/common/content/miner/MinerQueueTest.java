@@ -0,0 +1,96 @@
+package mekanism.common.content.miner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test MinerQueue implementation")
+class MinerQueueTest {
+
+    //Top down, and then by the same order as the section local index
+    private static final Comparator<BlockPos> MINING_ORDER = Comparator.comparingInt(BlockPos::getY)
+          .thenComparingInt(BlockPos::getZ)
+          .thenComparingInt(BlockPos::getX)
+          .reversed();
+
+    @Test
+    @DisplayName("Test positions in a chunk are given from the top down")
+    void testOrder() {
+        Random random = new Random(42);
+        MinerQueue queue = new MinerQueue();
+        List<BlockPos> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            BlockPos pos = new BlockPos(32 + random.nextInt(16), random.nextInt(-64, 320), -16 + random.nextInt(16));
+            if (!expected.contains(pos)) {
+                expected.add(pos);
+            }
+            queue.add(pos);
+        }
+        expected.sort(MINING_ORDER);
+        Assertions.assertEquals(expected.size(), queue.size());
+        Assertions.assertEquals(ChunkPos.asLong(2, -1), queue.peekChunk());
+        for (int i = 0; i < expected.size(); i++) {
+            BlockPos pos = queue.peek();
+            Assertions.assertEquals(expected.get(i), pos);
+            Assertions.assertEquals(i == expected.size() - 1, queue.remove(pos));
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.peek());
+        Assertions.assertEquals(ChunkPos.INVALID_CHUNK_POS, queue.peekChunk());
+    }
+
+    @Test
+    @DisplayName("Test positions added above the last found position are found")
+    void testAddAboveCursor() {
+        MinerQueue queue = new MinerQueue();
+        queue.add(new BlockPos(0, 10, 0));
+        queue.add(new BlockPos(0, 5, 0));
+        Assertions.assertEquals(new BlockPos(0, 10, 0), queue.peek());
+        queue.remove(new BlockPos(0, 10, 0));
+        Assertions.assertEquals(new BlockPos(0, 5, 0), queue.peek());
+        queue.add(new BlockPos(1, 40, 1));
+        Assertions.assertEquals(new BlockPos(1, 40, 1), queue.peek());
+        Assertions.assertEquals(2, queue.size());
+    }
+
+    @Test
+    @DisplayName("Test merging searched chunks")
+    void testAddChunk() {
+        MinerQueue queue = new MinerQueue();
+        queue.add(new BlockPos(0, 0, 0));
+        MinerQueue.ChunkQueue chunk = new MinerQueue.ChunkQueue(ChunkPos.asLong(0, 0));
+        chunk.add(0, 0, 0);
+        chunk.add(1, 100, 1);
+        queue.addChunk(chunk);
+        MinerQueue.ChunkQueue otherChunk = new MinerQueue.ChunkQueue(ChunkPos.asLong(1, 0));
+        otherChunk.add(16, 0, 0);
+        queue.addChunk(otherChunk);
+        Assertions.assertEquals(3, queue.size());
+        Assertions.assertEquals(new BlockPos(1, 100, 1), queue.peek());
+    }
+
+    @Test
+    @DisplayName("Test serializing and deserializing keeps the remaining positions")
+    void testSerialization() {
+        MinerQueue queue = new MinerQueue();
+        List<BlockPos> positions = List.of(new BlockPos(-1, -64, -1), new BlockPos(100, 64, 7), new BlockPos(101, 319, 8), new BlockPos(-20, 12, 40));
+        positions.forEach(queue::add);
+        queue.remove(positions.get(1));
+        MinerQueue copy = MinerQueue.deserialize(queue.serialize().getAsLongArray());
+        Assertions.assertEquals(queue.size(), copy.size());
+        while (!queue.isEmpty()) {
+            Assertions.assertEquals(queue.peekChunk(), copy.peekChunk());
+            BlockPos pos = queue.peek();
+            Assertions.assertEquals(pos, copy.peek());
+            queue.remove(pos);
+            copy.remove(pos);
+        }
+        Assertions.assertTrue(copy.isEmpty());
+    }
+}
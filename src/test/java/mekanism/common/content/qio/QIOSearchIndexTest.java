@@ -0,0 +1,94 @@
+package mekanism.common.content.qio;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.lib.inventory.HashedItem;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIOSearchIndex implementation")
+class QIOSearchIndexTest {
+
+    private final QIOSearchIndex index = new QIOSearchIndex();
+
+    @BeforeEach
+    void setup() {
+        index.clear();
+        index.add(new TestSlot("Iron Ingot"), "Iron Ingot", "minecraft", List.of("c:ingots", "c:ingots/iron"));
+        index.add(new TestSlot("Osmium Ingot"), "Osmium Ingot", "mekanism", List.of("c:ingots", "c:ingots/osmium"));
+        index.add(new TestSlot("Iron Ore"), "Iron Ore", "minecraft", List.of("c:ores", "c:ores/iron"));
+        index.add(new TestSlot("Basic Energy Cube"), "Basic Energy Cube", "mekanism", List.of());
+    }
+
+    @Test
+    @DisplayName("Test name searches")
+    void testNames() {
+        searchAssert("ingot", "Iron Ingot", "Osmium Ingot");
+        searchAssert("IRON", "Iron Ingot", "Iron Ore");
+        //Shorter than a trigram
+        searchAssert("re", "Iron Ore");
+        //Contains all the trigrams but not the key
+        searchAssert("iron ingot ore");
+        searchAssert("iron ingot", "Iron Ingot");
+        searchAssert("missing");
+    }
+
+    @Test
+    @DisplayName("Test mod id and tag searches")
+    void testModIdsAndTags() {
+        searchAssert("@mek", "Osmium Ingot", "Basic Energy Cube");
+        searchAssert("#ores", "Iron Ore");
+        searchAssert("#(ores | osmium)", "Iron Ore", "Osmium Ingot");
+        searchAssert("@minecraft ingot", "Iron Ingot");
+    }
+
+    @Test
+    @DisplayName("Test combined and empty queries")
+    void testQuerySets() {
+        searchAssert("cube | ore", "Basic Energy Cube", "Iron Ore");
+        searchAssert("", "Iron Ingot", "Osmium Ingot", "Iron Ore", "Basic Energy Cube");
+        searchAssert("\"no end quote");
+    }
+
+    @Test
+    @DisplayName("Test removing indexed slots")
+    void testRemove() {
+        TestSlot slot = new TestSlot("Steel Ingot");
+        index.add(slot, "Steel Ingot", "mekanism", List.of("c:ingots/steel"));
+        searchAssert("steel", "Steel Ingot");
+        index.remove(slot);
+        searchAssert("steel");
+        searchAssert("#ingots/steel");
+        Assertions.assertEquals(4, index.size());
+    }
+
+    private void searchAssert(String query, String... expected) {
+        Set<String> names = index.search(null, null, SearchQueryParser.parse(query)).stream()
+              .map(slot -> ((TestSlot) slot).name())
+              .collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of(expected), names);
+    }
+
+    private record TestSlot(String name) implements IScrollableSlot {
+
+        @Override
+        public HashedItem item() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UUID itemUUID() {
+            return UUID.nameUUIDFromBytes(name.getBytes());
+        }
+
+        @Override
+        public long count() {
+            return 1;
+        }
+    }
+}
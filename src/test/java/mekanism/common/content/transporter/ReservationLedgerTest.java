@@ -0,0 +1,108 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mekanism.common.content.transporter.TransporterManager.InventoryInfo;
+import mekanism.common.content.transporter.TransporterStack.Path;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test ReservationLedger implementation")
+class ReservationLedgerTest {
+
+    private static final Direction SIDE = Direction.NORTH;
+
+    private final ReservationLedger ledger = new ReservationLedger();
+    //In-flight stacks in the order they were added to the ledger
+    private final List<TransporterStack> flowing = new ArrayList<>();
+
+    @Test
+    @DisplayName("Test items added to a slot by hand count against the max stack size of the reserved items")
+    void testMaxStackSize() {
+        ItemStackHandler handler = new ItemStackHandler(1);
+        handler.setStackInSlot(0, new ItemStack(Items.ENDER_PEARL, 10));
+        addFlowing(new ItemStack(Items.ENDER_PEARL, 6));
+        Assertions.assertTrue(reserve(handler));
+        //Only one of the six in-flight pearls still fits, even though the slot limit of the handler is higher
+        handler.setStackInSlot(0, new ItemStack(Items.ENDER_PEARL, 15));
+        Assertions.assertFalse(reserve(handler));
+    }
+
+    @Test
+    @DisplayName("Test stacks that did not fit are simulated again without rebuilding the reservations")
+    void testRetryOverflowing() {
+        ItemStackHandler handler = new ItemStackHandler(2);
+        handler.setStackInSlot(0, new ItemStack(Items.ENDER_PEARL, 16));
+        handler.setStackInSlot(1, new ItemStack(Items.ENDER_PEARL, 12));
+        addFlowing(new ItemStack(Items.ENDER_PEARL, 6));
+        Assertions.assertFalse(reserve(handler));
+        Assertions.assertFalse(reserve(handler));
+        handler.setStackInSlot(0, new ItemStack(Items.ENDER_PEARL, 14));
+        Assertions.assertTrue(reserve(handler));
+        Assertions.assertEquals(0, ledger.getRebuilds());
+    }
+
+    @Test
+    @DisplayName("Test reserving matches simulating every in-flight stack")
+    void testMatchesReplay() {
+        Random random = new Random(42);
+        ItemStackHandler handler = new ItemStackHandler(3);
+        for (int i = 0; i < 5_000; i++) {
+            int action = random.nextInt(4);
+            if (action < 2) {
+                addFlowing(new ItemStack(Items.ENDER_PEARL, 1 + random.nextInt(16)));
+            } else if (action == 2 && !flowing.isEmpty()) {
+                ledger.remove(flowing.remove(random.nextInt(flowing.size())));
+            } else {
+                //Change the contents of the destination the same as if a player or another mod did
+                handler.setStackInSlot(random.nextInt(handler.getSlots()), new ItemStack(Items.ENDER_PEARL, random.nextInt(17)));
+            }
+            reserve(handler);
+        }
+    }
+
+    private void addFlowing(ItemStack stack) {
+        //Note: Stacks without a path don't have a side of the destination, so stacks that don't fit at all get skipped rather than blocking the destination
+        TransporterStack transporterStack = TransporterStack.createClient(null, 0, 0, Path.DEST, Long.MAX_VALUE, Long.MAX_VALUE, stack);
+        flowing.add(transporterStack);
+        ledger.add(transporterStack);
+    }
+
+    /**
+     * Checks that the ledger gives the same result as simulating every in-flight stack again, which is what checking a destination did before there were ledgers.
+     *
+     * @return {@code true} if the in-flight stacks leave room for more items.
+     */
+    private boolean reserve(IItemHandler handler) {
+        InventoryInfo expected = new InventoryInfo(handler);
+        boolean expectedFits = replay(handler, expected);
+        InventoryInfo actual = new InventoryInfo(handler);
+        boolean fits = ledger.reserve(SIDE, handler, actual);
+        Assertions.assertEquals(expectedFits, fits);
+        if (fits) {
+            //Check that the same amount of room is left for a new stack
+            ItemStack stack = new ItemStack(Items.ENDER_PEARL, 64);
+            Assertions.assertEquals(TransporterManager.simulateInsert(handler, expected, stack, 64, false),
+                  TransporterManager.simulateInsert(handler, actual, stack, 64, false));
+        }
+        return fits;
+    }
+
+    private boolean replay(IItemHandler handler, InventoryInfo info) {
+        for (TransporterStack stack : flowing) {
+            int count = stack.itemStack.getCount();
+            int leftOver = TransporterManager.simulateInsert(handler, info, stack.itemStack, count, true);
+            if (leftOver > 0 && (leftOver < count || SIDE == stack.getSideOfDest())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
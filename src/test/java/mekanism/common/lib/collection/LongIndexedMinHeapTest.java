@@ -0,0 +1,61 @@
+package mekanism.common.lib.collection;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongIndexedMinHeap implementation")
+class LongIndexedMinHeapTest {
+
+    @Test
+    @DisplayName("Test keys are polled in priority order")
+    void testPollOrder() {
+        LongIndexedMinHeap heap = new LongIndexedMinHeap(2);
+        heap.insertOrUpdate(5, 5);
+        heap.insertOrUpdate(1, 1);
+        heap.insertOrUpdate(4, 4);
+        heap.insertOrUpdate(2, 2);
+        heap.insertOrUpdate(3, 3);
+        Assertions.assertEquals(5, heap.size());
+        for (long expected = 1; expected <= 5; expected++) {
+            Assertions.assertEquals(expected, heap.peekPriority());
+            Assertions.assertEquals(expected, heap.poll());
+            Assertions.assertFalse(heap.contains(expected));
+        }
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test updating the priority of queued keys")
+    void testUpdate() {
+        LongIndexedMinHeap heap = new LongIndexedMinHeap();
+        heap.insertOrUpdate(Long.MIN_VALUE, 10);
+        heap.insertOrUpdate(Long.MAX_VALUE, 20);
+        heap.insertOrUpdate(0, 30);
+        //Decrease
+        heap.insertOrUpdate(0, 5);
+        Assertions.assertEquals(3, heap.size());
+        Assertions.assertEquals(0, heap.peek());
+        //Increase
+        heap.insertOrUpdate(0, 25);
+        Assertions.assertEquals(Long.MIN_VALUE, heap.poll());
+        Assertions.assertEquals(Long.MAX_VALUE, heap.poll());
+        Assertions.assertEquals(0, heap.poll());
+    }
+
+    @Test
+    @DisplayName("Test clearing and reusing the heap")
+    void testClear() {
+        LongIndexedMinHeap heap = new LongIndexedMinHeap();
+        for (int i = 0; i < 100; i++) {
+            heap.insertOrUpdate(i, 100 - i);
+        }
+        heap.clear();
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertFalse(heap.contains(50));
+        Assertions.assertThrows(NoSuchElementException.class, heap::poll);
+        heap.insertOrUpdate(7, 1);
+        Assertions.assertEquals(7, heap.poll());
+    }
+}
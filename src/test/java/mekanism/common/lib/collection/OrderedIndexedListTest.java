@@ -0,0 +1,83 @@
+package mekanism.common.lib.collection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test OrderedIndexedList implementation")
+class OrderedIndexedListTest {
+
+    private static final Comparator<Entry> BY_VALUE = Comparator.comparingInt(Entry::value);
+
+    @Test
+    @DisplayName("Test elements stay sorted while adding and removing")
+    void testMatchesSortedList() {
+        Random random = new Random(42);
+        OrderedIndexedList<Entry> list = new OrderedIndexedList<>(BY_VALUE);
+        List<Entry> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                Entry entry = new Entry(random.nextInt(100));
+                list.add(entry);
+                expected.add(entry);
+                //Stable sort, so equal elements stay in the order they were added in
+                expected.sort(BY_VALUE);
+            } else {
+                Entry entry = expected.remove(random.nextInt(expected.size()));
+                Assertions.assertTrue(list.remove(entry));
+            }
+            Assertions.assertEquals(expected.size(), list.size());
+        }
+        Assertions.assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertSame(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test elements are found by reference")
+    void testReferenceEquality() {
+        Entry first = new Entry(1);
+        Entry second = new Entry(1);
+        OrderedIndexedList<Entry> list = new OrderedIndexedList<>(BY_VALUE, List.of(first, second));
+        Assertions.assertEquals(1, list.indexOf(second));
+        Assertions.assertFalse(list.remove(new Entry(1)));
+        Assertions.assertTrue(list.remove(second));
+        Assertions.assertSame(first, list.get(0));
+        Assertions.assertEquals(-1, list.indexOf(second));
+    }
+
+    @Test
+    @DisplayName("Test changing the comparator resorts the list")
+    void testSetComparator() {
+        OrderedIndexedList<Entry> list = new OrderedIndexedList<>(BY_VALUE);
+        for (int i = 0; i < 50; i++) {
+            list.add(new Entry(i));
+        }
+        list.setComparator(BY_VALUE.reversed());
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(49 - i, list.get(i).value());
+        }
+        list.add(new Entry(100));
+        Assertions.assertEquals(100, list.get(0).value());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(51));
+    }
+
+    //Note: Not a record so that equal values are not equal entries
+    private static final class Entry {
+
+        private final int value;
+
+        private Entry(int value) {
+            this.value = value;
+        }
+
+        private int value() {
+            return value;
+        }
+    }
+}
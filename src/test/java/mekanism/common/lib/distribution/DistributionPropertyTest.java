@@ -1,12 +1,17 @@
 package mekanism.common.lib.distribution;
 
+import java.util.List;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.SortedIntegerTarget;
 import mekanism.common.util.EmitUtils;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Label;
 import net.jqwik.api.Property;
 import net.jqwik.api.constraints.IntRange;
 import net.jqwik.api.constraints.Positive;
+import net.jqwik.api.constraints.Size;
 import org.junit.jupiter.api.Assertions;
 
 @Label("Property based testing of distribution via EmitUtils")
@@ -38,4 +43,34 @@ class DistributionPropertyTest {
         IntegerTarget availableAcceptors = DistributionTest.getTargets(0, some, none);
         Assertions.assertTrue(EmitUtils.sendToAcceptors(availableAcceptors, toSend, VOID_RESOURCE) <= toSend);
     }
-}
\ No newline at end of file
+
+    @Property(tries = TRIES)
+    @Label("Test sorted distribution matches unsorted distribution")
+    void testSortedDistribution(@ForAll @IntRange(max = 100) int infinite, @ForAll @IntRange(max = 100) int some, @ForAll @IntRange(max = 100) int none,
+          @ForAll @Positive int toSend) {
+        IntegerTarget target = DistributionTest.getTargets(infinite, some, none);
+        SortedIntegerTarget sortedTarget = DistributionTest.getTargets(new SortedIntegerTarget(), infinite, some, none);
+        assertSameDistribution(target, sortedTarget, toSend);
+    }
+
+    @Property(tries = TRIES)
+    @Label("Test sorted distribution matches unsorted distribution with specific amounts")
+    void testSortedDistributionSpecific(@ForAll @Size(max = 50) List<@IntRange(max = 1_000) Integer> amounts, @ForAll @IntRange(min = 1, max = 20_000) int toSend) {
+        IntegerTarget target = new IntegerTarget();
+        SortedIntegerTarget sortedTarget = new SortedIntegerTarget();
+        for (int amount : amounts) {
+            target.addHandler(new SpecificAmountIntegerHandler(amount));
+            sortedTarget.addHandler(new SpecificAmountIntegerHandler(amount));
+        }
+        assertSameDistribution(target, sortedTarget, toSend);
+    }
+
+    private static void assertSameDistribution(IntegerTarget target, SortedIntegerTarget sortedTarget, int toSend) {
+        Assertions.assertEquals(EmitUtils.sendToAcceptors(target, toSend, VOID_RESOURCE), EmitUtils.sendToAcceptors(sortedTarget, toSend, VOID_RESOURCE));
+        List<IntegerHandler> handlers = List.copyOf(target.handlers);
+        List<IntegerHandler> sortedHandlers = List.copyOf(sortedTarget.handlers);
+        for (int i = 0; i < handlers.size(); i++) {
+            Assertions.assertEquals(handlers.get(i).getAccepted(), sortedHandlers.get(i).getAccepted());
+        }
+    }
+}
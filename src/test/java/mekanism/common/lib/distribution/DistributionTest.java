@@ -8,6 +8,7 @@ import mekanism.common.lib.distribution.handler.LyingAmountIntegerHandler;
 import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
 import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.SortedIntegerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -19,14 +20,17 @@ class DistributionTest {
     static final Void VOID_RESOURCE = null;
 
     public static IntegerTarget getTargets(int infinite, int some, int none) {
-        IntegerTarget target = new IntegerTarget();
+        return getTargets(new IntegerTarget(), infinite, some, none);
+    }
+
+    public static <TARGET extends Target<IntegerHandler, Void>> TARGET getTargets(TARGET target, int infinite, int some, int none) {
         addTargets(target, InfiniteIntegerHandler::new, infinite);
         addTargets(target, PartialIntegerHandler::new, some);
         addTargets(target, () -> new SpecificAmountIntegerHandler(0), none);
         return target;
     }
 
-    private static void addTargets(IntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
+    private static void addTargets(Target<IntegerHandler, Void> targets, Supplier<IntegerHandler> targetSupplier, int count) {
         for (int i = 0; i < count; i++) {
             targets.addHandler(targetSupplier.get());
         }
@@ -136,4 +140,31 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test that a target taking exactly its share does not cause the split to be recalculated")
+    void testExactShareKeepsSplit() {
+        //Note: These amounts are what the split has always produced, so that changes to how we split can't silently change what each handler receives
+        assertSpecificDistribution(new IntegerTarget(), 7, new int[]{6, 2, 3, 1}, new int[]{3, 2, 1, 1});
+        assertSpecificDistribution(new SortedIntegerTarget(), 7, new int[]{6, 2, 3, 1}, new int[]{3, 2, 1, 1});
+    }
+
+    @Test
+    @DisplayName("Test that shifting needed amounts gives handlers their amounts in the order they were added")
+    void testShiftedDistribution() {
+        assertSpecificDistribution(new IntegerTarget(), 12, new int[]{1, 2, 16, 3, 9}, new int[]{1, 2, 4, 3, 2});
+        assertSpecificDistribution(new SortedIntegerTarget(), 12, new int[]{1, 2, 16, 3, 9}, new int[]{1, 2, 4, 3, 2});
+    }
+
+    private static void assertSpecificDistribution(Target<IntegerHandler, Void> target, int toSend, int[] amounts, int[] expected) {
+        IntegerHandler[] handlers = new IntegerHandler[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            handlers[i] = new SpecificAmountIntegerHandler(amounts[i]);
+            target.addHandler(handlers[i]);
+        }
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(target, toSend, VOID_RESOURCE));
+        for (int i = 0; i < handlers.length; i++) {
+            Assertions.assertEquals(expected[i], handlers[i].getAccepted());
+        }
+    }
+}
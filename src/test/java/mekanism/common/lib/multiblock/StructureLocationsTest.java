@@ -0,0 +1,63 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test StructureLocations implementation")
+class StructureLocationsTest {
+
+    private static final BlockPos MIN = new BlockPos(-9, -64, 30);
+    private static final BlockPos MAX = new BlockPos(8, -47, 47);
+
+    @Test
+    @DisplayName("Test behaving the same as a hash set")
+    void testMatchesHashSet() {
+        Random random = new Random(7);
+        StructureLocations locations = new StructureLocations(MIN, MAX);
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            BlockPos pos = new BlockPos(random.nextInt(MIN.getX(), MAX.getX() + 1), random.nextInt(MIN.getY(), MAX.getY() + 1),
+                  random.nextInt(MIN.getZ(), MAX.getZ() + 1));
+            if (random.nextInt(4) == 0) {
+                Assertions.assertEquals(expected.remove(pos), locations.remove(pos));
+            } else {
+                Assertions.assertEquals(expected.add(pos), locations.add(pos));
+            }
+        }
+        Assertions.assertEquals(expected.size(), locations.size());
+        Assertions.assertEquals(expected, locations);
+        Assertions.assertEquals(locations, expected);
+        Assertions.assertEquals(expected.hashCode(), locations.hashCode());
+        for (BlockPos pos : locations.mutable()) {
+            Assertions.assertTrue(expected.contains(pos));
+        }
+    }
+
+    @Test
+    @DisplayName("Test positions outside the bounds")
+    void testOutsideBounds() {
+        StructureLocations locations = new StructureLocations(MIN, MAX);
+        Assertions.assertFalse(locations.contains(MIN.below()));
+        Assertions.assertFalse(locations.contains(MAX.east()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> locations.add(MAX.above()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StructureLocations().add(BlockPos.ZERO));
+    }
+
+    @Test
+    @DisplayName("Test iterated positions can be stored")
+    void testIteratedPositionsAreImmutable() {
+        StructureLocations locations = new StructureLocations(MIN, MAX);
+        locations.add(MIN);
+        locations.add(MAX);
+        locations.add(new BlockPos(0, -50, 40));
+        List<BlockPos> stored = new ArrayList<>(locations);
+        Assertions.assertEquals(List.of(MIN, new BlockPos(0, -50, 40), MAX), stored);
+    }
+}
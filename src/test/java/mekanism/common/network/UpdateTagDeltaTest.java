@@ -0,0 +1,79 @@
+package mekanism.common.network;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test encoding and applying update tag deltas")
+class UpdateTagDeltaTest {
+
+    private static CompoundTag createTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putBoolean("active", false);
+        tag.putInt("progress", 12);
+        tag.putLong("energy", 1_000_000L);
+        tag.putDouble("temperature", 300.5);
+        CompoundTag tank = new CompoundTag();
+        tank.putString("id", "mekanism:hydrogen");
+        tank.putLong("amount", 500);
+        tag.put("tank", tank);
+        ListTag list = new ListTag();
+        list.add(StringTag.valueOf("a"));
+        tag.put("list", list);
+        return tag;
+    }
+
+    private static void assertRoundTrip(CompoundTag previous, CompoundTag current) {
+        byte[] data = UpdateTagDelta.encode(previous, current);
+        Assertions.assertNotNull(data);
+        CompoundTag copy = previous.copy();
+        Assertions.assertEquals(current, UpdateTagDelta.apply(previous, data));
+        //The tag the delta gets applied to should not be modified
+        Assertions.assertEquals(copy, previous);
+    }
+
+    @Test
+    @DisplayName("Test that unchanged tags have no delta")
+    void testUnchanged() {
+        Assertions.assertNull(UpdateTagDelta.encode(createTag(), createTag()));
+    }
+
+    @Test
+    @DisplayName("Test encoding an entire tag")
+    void testFullUpdate() {
+        CompoundTag current = createTag();
+        byte[] data = UpdateTagDelta.encode(null, current);
+        Assertions.assertNotNull(data);
+        Assertions.assertEquals(current, UpdateTagDelta.apply(new CompoundTag(), data));
+    }
+
+    @Test
+    @DisplayName("Test changed, added and removed values")
+    void testChangedValues() {
+        CompoundTag previous = createTag();
+        CompoundTag current = createTag();
+        current.putBoolean("active", true);
+        current.putInt("progress", -4);
+        current.putFloat("added", 0.25F);
+        current.remove("temperature");
+        current.getList("list", Tag.TAG_STRING).add(StringTag.valueOf("b"));
+        assertRoundTrip(previous, current);
+    }
+
+    @Test
+    @DisplayName("Test changes to nested compounds")
+    void testNestedChanges() {
+        CompoundTag previous = createTag();
+        CompoundTag current = createTag();
+        current.getCompound("tank").putLong("amount", Long.MAX_VALUE);
+        current.getCompound("tank").remove("id");
+        assertRoundTrip(previous, current);
+        //Replacing a compound with a value of a different type
+        current.putString("tank", "empty");
+        assertRoundTrip(previous, current);
+    }
+}